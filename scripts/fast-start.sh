@@ -0,0 +1,49 @@
+#!/usr/bin/env bash
+# 빠른 기동 모드 : Spring AOT + AppCDS 아카이브 + fast 프로필(springdoc 비활성)
+#
+#   scripts/fast-start.sh build   # AOT 빌드 → jar 추출 → 학습 실행으로 CDS 아카이브 생성
+#   scripts/fast-start.sh run     # AOT + CDS 로 기동
+#
+# 프로필은 SPRING_PROFILES_ACTIVE 로 바꿀 수 있음 (기본 dev,fast).
+# build/run 에 같은 프로필을 써야 한다 (AOT 는 빌드 시점에 빈 구성을 고정함).
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+OUT=build/fast-start
+PROFILES="${SPRING_PROFILES_ACTIVE:-dev,fast}"
+
+boot_jar() {
+    ls build/libs/*.jar | grep -v -- '-plain\.jar$' | head -n 1
+}
+
+build() {
+    ./gradlew -PfastStart -PaotProfiles="$PROFILES" clean bootJar
+
+    # CDS 는 추출된(풀린) 클래스패스에서만 제대로 동작
+    rm -rf "$OUT"
+    java -Djarmode=tools -jar "$(boot_jar)" extract --destination "$OUT"
+
+    # 학습 실행: 컨텍스트 refresh 직후 종료하면서 로드된 클래스를 아카이브로 덤프
+    java -XX:ArchiveClassesAtExit="$OUT/app.jsa" \
+        -Dspring.context.exit=onRefresh \
+        -Dspring.aot.enabled=true \
+        -Dspring.profiles.active="$PROFILES" \
+        -jar "$OUT/$(basename "$(boot_jar)")"
+
+    echo "✅ fast-start 빌드 완료: $OUT"
+}
+
+run() {
+    exec java -XX:SharedArchiveFile="$OUT/app.jsa" \
+        -Dspring.aot.enabled=true \
+        -Dspring.profiles.active="$PROFILES" \
+        ${JAVA_OPTS:-} \
+        -jar "$OUT/$(basename "$(boot_jar)")" "$@"
+}
+
+case "${1:-}" in
+    build) build ;;
+    run) shift; run "$@" ;;
+    *) echo "usage: $0 build|run [app args...]" >&2; exit 1 ;;
+esac
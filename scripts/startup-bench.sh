@@ -0,0 +1,90 @@
+#!/usr/bin/env bash
+# 기동 벤치마크 : 프로세스 시작 → 첫 성공 응답까지 걸린 시간(ms)
+#   hello : GET /api/hello 200 (웹 계층만)
+#   db    : GET /api/requests/{BENCH_REQUEST_ID} 200 (DataSource + MyBatis 매퍼 경로 포함)
+#
+#   scripts/fast-start.sh build          # 먼저 빌드 (일반 jar + fast-start 산출물)
+#   BENCH_REQUEST_ID=1 scripts/startup-bench.sh [runs=5]
+#
+# BENCH_REQUEST_ID 는 실제로 존재하는 requests.id 여야 한다 (404 는 성공으로 치지 않음).
+# 모드별로 runs 회 반복하고 두 지표 각각 min / median 을 출력한다.
+#   plain : java -jar (AOT/CDS 없음, 기본 프로필)
+#   fast  : scripts/fast-start.sh run (AOT + CDS, springdoc 비활성)
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS="${1:-5}"
+PORT="${BENCH_PORT:-19090}"
+BASE="http://127.0.0.1:$PORT"
+HELLO_URL="$BASE/api/hello"
+DB_URL="$BASE/api/requests/${BENCH_REQUEST_ID:-1}"
+TIMEOUT_MS="${BENCH_TIMEOUT_MS:-120000}"
+
+boot_jar() {
+    ls build/libs/*.jar | grep -v -- '-plain\.jar$' | head -n 1
+}
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+# $1 : pid, $2 : 시작 시각, $3 : URL. 첫 200 응답 시각까지 ms
+wait_ok() {
+    local pid=$1 start=$2 url=$3
+    until curl -sf -o /dev/null "$url"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "❌ 프로세스가 응답 전에 종료됨 ($url)" >&2
+            return 1
+        fi
+        if (( $(now_ms) - start > TIMEOUT_MS )); then
+            echo "❌ ${TIMEOUT_MS}ms 안에 200 응답 없음 ($url, BENCH_REQUEST_ID 확인)" >&2
+            kill "$pid" 2>/dev/null || true
+            return 1
+        fi
+        sleep 0.01
+    done
+    echo $(( $(now_ms) - start ))
+}
+
+# $@ : 기동 커맨드. "hello_ms db_ms" 를 stdout 으로
+measure() {
+    local start pid hello db
+    start=$(now_ms)
+    "$@" --server.port="$PORT" >/dev/null 2>&1 &
+    pid=$!
+    hello=$(wait_ok "$pid" "$start" "$HELLO_URL") || exit 1
+    db=$(wait_ok "$pid" "$start" "$DB_URL") || exit 1
+    kill "$pid" && wait "$pid" 2>/dev/null || true
+    echo "$hello $db"
+}
+
+# $1 : 이름, 나머지 : 값 목록. min / median 출력
+stats() {
+    local name=$1
+    shift
+    local sorted
+    sorted=$(printf '%s\n' "$@" | sort -n)
+    printf '%-5s min=%5d ms  median=%5d ms  [%s]' "$name" \
+        "$(echo "$sorted" | head -n 1)" \
+        "$(echo "$sorted" | sed -n "$(( ($# + 1) / 2 ))p")" \
+        "$*"
+}
+
+bench() {
+    local name=$1
+    shift
+    local hellos=() dbs=() out h d
+    for _ in $(seq "$RUNS"); do
+        out=$(measure "$@") || exit 1
+        read -r h d <<< "$out"
+        hellos+=("$h")
+        dbs+=("$d")
+    done
+    printf '%-6s runs=%d\n' "$name" "$RUNS"
+    printf '  %s\n' "$(stats hello "${hellos[@]}")"
+    printf '  %s\n' "$(stats db "${dbs[@]}")"
+}
+
+bench plain java -jar "$(boot_jar)"
+bench fast scripts/fast-start.sh run
@@ -0,0 +1,85 @@
+package com.divorceai.config;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+/**
+ * 🔹 fields= 응답 필드 선택(projection) 필터
+ * - 점(.) 경로로 지정: "answer,damages,references.caseNo"
+ * - 앞에 '-' 를 붙이면 제외: "-references.text,-explanation.highlights"
+ * - 포함 목록이 비어 있으면 제외 목록만 적용
+ * - always 경로(예: ok, error)는 spec 과 무관하게 항상 포함
+ * 제외된 필드는 getter 호출/직렬화 자체를 건너뜀.
+ * 대상 클래스에는 {@code @JsonFilter(FieldsFilter.ID)} 를 붙인다.
+ */
+public class FieldsFilter extends SimpleBeanPropertyFilter {
+
+    public static final String ID = "fields";
+
+    private final Set<String> includes = new HashSet<>();
+    private final Set<String> excludes = new HashSet<>();
+    private final Set<String> always = new HashSet<>();
+
+    private FieldsFilter(String spec, String... always) {
+        this.always.addAll(Arrays.asList(always));
+        for (String raw : spec.split(",")) {
+            String f = raw.trim();
+            if (f.isEmpty())
+                continue;
+            if (f.startsWith("-"))
+                excludes.add(f.substring(1).trim());
+            else
+                includes.add(f);
+        }
+    }
+
+    /** 🔸 MappingJacksonValue.setFilters 용 */
+    public static FilterProvider provider(String spec, String... always) {
+        return new SimpleFilterProvider().addFilter(ID, new FieldsFilter(spec, always));
+    }
+
+    @Override
+    public void serializeAsField(Object pojo, JsonGenerator jgen, SerializerProvider provider, PropertyWriter writer)
+            throws Exception {
+        if (include(path(jgen.getOutputContext(), writer.getName())))
+            writer.serializeAsField(pojo, jgen, provider);
+        else if (!jgen.canOmitFields())
+            writer.serializeAsOmittedField(pojo, jgen, provider);
+    }
+
+    private boolean include(String path) {
+        if (always.contains(path))
+            return true;
+        for (String ex : excludes) {
+            if (path.equals(ex) || path.startsWith(ex + "."))
+                return false;
+        }
+        if (includes.isEmpty())
+            return true;
+        for (String in : includes) {
+            // 요청 경로 자신, 그 상위(references ← references.caseNo), 그 하위 모두 포함
+            if (in.equals(path) || in.startsWith(path + ".") || path.startsWith(in + "."))
+                return true;
+        }
+        return false;
+    }
+
+    /** 🔹 출력 컨텍스트를 거슬러 올라가 "references.text" 형태 경로 생성 (배열 인덱스는 무시) */
+    private static String path(JsonStreamContext ctx, String name) {
+        StringBuilder sb = new StringBuilder(name);
+        for (JsonStreamContext c = ctx.getParent(); c != null; c = c.getParent()) {
+            if (c.inObject() && c.getCurrentName() != null)
+                sb.insert(0, '.').insert(0, c.getCurrentName());
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,38 @@
+package com.divorceai.config;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+
+/**
+ * 🔹 ?fields= 를 응답 직렬화에 적용하는 advice
+ * - 컨트롤러는 DTO(예: AnalyzeResponse)를 그대로 반환 → springdoc 스키마도 DTO 기준
+ * - {@code @JsonFilter(FieldsFilter.ID)} 가 붙은 응답에만 적용, ok/error 는 항상 포함
+ */
+@RestControllerAdvice
+public class FieldsFilterAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    public static final String PARAM = "fields";
+    private static final String[] ALWAYS = { "ok", "error" };
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue container, MediaType contentType,
+            MethodParameter returnType, ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest))
+            return;
+        String fields = servletRequest.getServletRequest().getParameter(PARAM);
+        if (fields == null || fields.isBlank())
+            return;
+        JsonFilter filter = AnnotationUtils.findAnnotation(container.getValue().getClass(), JsonFilter.class);
+        if (filter != null && FieldsFilter.ID.equals(filter.value()))
+            container.setFilters(FieldsFilter.provider(fields, ALWAYS));
+    }
+}
@@ -0,0 +1,17 @@
+package com.divorceai.config;
+
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+@Configuration
+public class JacksonConfig {
+
+    /** @JsonFilter 가 붙은 DTO 도 fields= 가 없으면 전체 필드 직렬화 (FieldsFilter 참고) */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer defaultFieldsFilter() {
+        return builder -> builder.filters(new SimpleFilterProvider().setFailOnUnknownId(false));
+    }
+}
@@ -2,10 +2,13 @@ package com.divorceai.config;
 
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.OpenAPI;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+/** springdoc.api-docs.enabled=false (fast 프로필)면 통째로 건너뜀 */
 @Configuration
+@ConditionalOnProperty(name = "springdoc.api-docs.enabled", matchIfMissing = true)
 public class OpenApiConfig {
     @Bean
     public OpenAPI baseOpenAPI() {
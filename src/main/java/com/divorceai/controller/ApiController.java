@@ -12,10 +12,13 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.divorceai.config.FieldsFilterAdvice;
 import com.divorceai.domain.dto.AnalyzeRequest;
 import com.divorceai.domain.dto.AnalyzeResponse;
 import com.divorceai.service.AnalysisService;
 
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import lombok.RequiredArgsConstructor;
 
 /** 공용 API 루트 */
@@ -39,8 +42,14 @@ public class ApiController {
         return ResponseEntity.ok(res);
     }
 
-    /** POST /api/analyze : 분석 실행 */
+    /**
+     * POST /api/analyze : 분석 실행
+     * fields= 로 응답 필드 선택 (예: fields=answer,damages,custody / fields=-references.text)
+     * ok, error 는 항상 포함. 적용은 FieldsFilterAdvice (응답 타입/스키마는 AnalyzeResponse 그대로)
+     */
     @PostMapping("/analyze")
+    @Parameter(name = FieldsFilterAdvice.PARAM, in = ParameterIn.QUERY, required = false,
+            description = "응답 필드 선택: answer,references.caseNo / 제외: -references.text")
     public ResponseEntity<AnalyzeResponse> analyze(@RequestBody AnalyzeRequest req) {
         AnalyzeResponse result = analysisService.analyze(req);
         if (Boolean.TRUE.equals(result.getOk()))
@@ -1,5 +1,9 @@
 package com.divorceai.controller;
 
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -7,6 +11,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.divorceai.domain.dto.CrawlSummary;
+import com.divorceai.service.CrawlPacer;
 import com.divorceai.service.CrawlService;
 
 @RestController
@@ -14,9 +20,14 @@ import com.divorceai.service.CrawlService;
 public class CrawlController {
 
     private final CrawlService crawlService;
+    private final CrawlPacer crawlPacer;
+
+    @Value("${crawler.keywords:이혼,위자료,양육권,재산분할}")
+    private List<String> defaultKeywords;
 
-    public CrawlController(CrawlService crawlService) {
+    public CrawlController(CrawlService crawlService, CrawlPacer crawlPacer) {
         this.crawlService = crawlService;
+        this.crawlPacer = crawlPacer;
     }
 
     /**
@@ -42,6 +53,38 @@ public class CrawlController {
         }
     }
 
+    /**
+     * 🔹 다중 키워드 크롤링 (srno 기준 중복 제거, 상세는 한 번씩)
+     * 예시:
+     * curl -X POST "http://localhost:9090/api/crawl/run-multi?keywords=이혼,위자료,양육권&page=1&size=10"
+     * keywords 생략 시 crawler.keywords 설정값 사용
+     */
+    @PostMapping("/run-multi")
+    public ResponseEntity<?> runMultiCrawl(
+            @RequestParam(required = false) List<String> keywords,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            List<String> kws = (keywords == null || keywords.isEmpty()) ? defaultKeywords : keywords;
+            System.out.println("🚀 [API] /crawl/run-multi triggered with keywords=" + kws);
+            CrawlSummary summary = crawlService.crawlKeywords(kws, page, size);
+            return ResponseEntity.ok(summary);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.internalServerError().body(
+                    "❌ 크롤링 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 🔸 현재 크롤링 요청 속도(AIMD) 확인
+     * 예시: GET http://localhost:9090/api/crawl/rate
+     */
+    @GetMapping("/rate")
+    public ResponseEntity<Map<String, Object>> rate() {
+        return ResponseEntity.ok(crawlPacer.snapshot());
+    }
+
     /**
      * 🔸 상태 확인용 (헬스체크)
      * 예시: GET http://localhost:9090/api/crawl/health
@@ -0,0 +1,62 @@
+package com.divorceai.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.divorceai.service.PrecedentService;
+
+import lombok.RequiredArgsConstructor;
+
+/** 판례 조회 API */
+@RestController
+@RequestMapping("/api/precedents")
+@RequiredArgsConstructor
+public class PrecedentController {
+
+    private final PrecedentService precedentService;
+
+    /**
+     * GET /api/precedents : 판례 목록 (메타데이터만, 키셋 페이징)
+     * 예시: GET /api/precedents?court=서울가정법원&from=2020-01-01&size=20&cursor={nextCursor}
+     */
+    @GetMapping
+    public ResponseEntity<?> list(
+            @RequestParam(required = false) String court,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(precedentService.list(court, type, keyword, from, to, cursor, size));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * GET /api/precedents/{caseNo}/body : 판례 본문 스트리밍
+     * Range 헤더 지원 (206 Partial Content), 본문 전체를 힙에 올리지 않음
+     */
+    @GetMapping("/{caseNo}/body")
+    public ResponseEntity<Resource> body(@PathVariable String caseNo) {
+        Resource body = precedentService.body(caseNo);
+        if (body == null)
+            return ResponseEntity.notFound().build();
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8))
+                .body(body);
+    }
+}
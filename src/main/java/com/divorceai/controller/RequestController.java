@@ -1,11 +1,20 @@
 package com.divorceai.controller;
 
 import com.divorceai.domain.Request;
+import com.divorceai.domain.dto.BulkImportResponse;
+import com.divorceai.service.RequestImportService;
 import com.divorceai.service.RequestService;
+import com.divorceai.service.RequestVersionIndex;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -14,6 +23,8 @@ import java.util.List;
 public class RequestController {
 
     private final RequestService service;
+    private final RequestImportService importService;
+    private final RequestVersionIndex versionIndex;
 
     @PostMapping
     public ResponseEntity<String> create(@RequestBody Request request) {
@@ -21,13 +32,49 @@ public class RequestController {
         return ResponseEntity.ok("created");
     }
 
+    /**
+     * NDJSON 스트리밍 벌크 적재
+     * 예시:
+     * curl -X POST -H "Content-Type: application/x-ndjson" --data-binary @requests.jsonl http://localhost:9090/api/requests/bulk
+     * DB 장애로 중단되면 503 + stoppedAtLine (그 라인부터 다시 보내면 됨)
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BulkImportResponse> bulkCreate(InputStream body) throws IOException {
+        BulkImportResponse res = importService.importNdjson(body);
+        if (res.isAborted())
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(res);
+        return ResponseEntity.ok(res);
+    }
+
+    /** 목록: If-None-Match 가 워터마크 ETag 와 같으면 304 (전체 SELECT 생략) */
     @GetMapping
-    public List<Request> getAll() {
-        return service.getAll();
+    public ResponseEntity<List<Request>> getAll(WebRequest webRequest) {
+        String etag = versionIndex.listEtag();
+        if (webRequest.checkNotModified(etag))
+            return null;
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag)
+                .body(service.getAll());
     }
 
+    /** 단건: 이미 본 id 면 DB 조회 없이 304 (행은 생성 후 불변) */
     @GetMapping("/{id}")
-    public Request getById(@PathVariable Long id) {
-        return service.getById(id);
+    public ResponseEntity<Request> getById(@PathVariable Long id, WebRequest webRequest) {
+        String known = versionIndex.knownEtag(id);
+        if (known != null && webRequest.checkNotModified(known))
+            return null;
+
+        Request request = service.getById(id);
+        if (request == null)
+            return ResponseEntity.notFound().build();
+
+        String etag = versionIndex.remember(request);
+        if (webRequest.checkNotModified(etag))
+            return null;
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag)
+                .body(request);
     }
 }
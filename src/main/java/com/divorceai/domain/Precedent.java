@@ -0,0 +1,16 @@
+package com.divorceai.domain;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/** precedents 메타데이터 (full_text 제외) */
+@Data
+public class Precedent {
+    private String caseNo;
+    private String court;
+    private LocalDate judgmentDate;
+    private String type;
+    private String summary;
+    private String sourceUrl;
+}
@@ -2,6 +2,9 @@ package com.divorceai.domain.dto;
 
 import java.util.List;
 
+import com.divorceai.config.FieldsFilter;
+import com.fasterxml.jackson.annotation.JsonFilter;
+
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -13,6 +16,7 @@ import lombok.ToString;
 @NoArgsConstructor
 @AllArgsConstructor
 @ToString
+@JsonFilter(FieldsFilter.ID)
 public class AnalyzeResponse {
     private Boolean ok; // true/false
     private String error; // 에러 메시지(있으면)
@@ -29,6 +33,7 @@ public class AnalyzeResponse {
     @NoArgsConstructor
     @AllArgsConstructor
     @ToString
+    @JsonFilter(FieldsFilter.ID)
     public static class Explanation {
         private String reasoning; // 한 단락 설명
         private List<Factor> factors; // 핵심 요인
@@ -40,6 +45,7 @@ public class AnalyzeResponse {
     @NoArgsConstructor
     @AllArgsConstructor
     @ToString
+    @JsonFilter(FieldsFilter.ID)
     public static class Factor {
         private String name;
         private Double weight; // 0~1
@@ -51,6 +57,7 @@ public class AnalyzeResponse {
     @NoArgsConstructor
     @AllArgsConstructor
     @ToString
+    @JsonFilter(FieldsFilter.ID)
     public static class Highlight {
         private String caseNo;
         private Integer chunkIndex;
@@ -63,6 +70,7 @@ public class AnalyzeResponse {
     @NoArgsConstructor
     @AllArgsConstructor
     @ToString
+    @JsonFilter(FieldsFilter.ID)
     public static class ReferenceCase {
         private String caseNo;
         private String court;
@@ -0,0 +1,38 @@
+package com.divorceai.domain.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class BulkImportResponse {
+    private Boolean ok; // 실패 라인이 하나도 없고 중단되지 않았으면 true
+    private long total; // 처리한(빈 줄 제외) 라인 수
+    private long inserted; // 커밋된 행 수
+    private long failed; // 파싱/저장 실패 라인 수
+    private long elapsedMs; // 전체 소요 시간
+    private double rowsPerSecond; // inserted / 초
+    private boolean aborted; // DB 장애(연결 실패/타임아웃 등)로 중단됐는지
+    private Long stoppedAtLine; // 중단 시 커밋되지 않은 첫 라인 (이후 라인은 처리 안 함, failed 에도 안 셈)
+    private String abortReason; // 중단 원인 메시지
+    private boolean errorsTruncated; // errors 목록이 상한에서 잘렸는지
+    private List<LineError> errors = new ArrayList<>(); // 라인별 에러(상한 있음)
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ToString
+    public static class LineError {
+        private long line; // 1부터 시작하는 NDJSON 라인 번호
+        private String message;
+    }
+}
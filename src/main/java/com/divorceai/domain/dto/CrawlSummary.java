@@ -0,0 +1,24 @@
+package com.divorceai.domain.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class CrawlSummary {
+    private List<String> keywords; // 요청 키워드(중복 제거, 순서 유지)
+    private int listed; // 키워드별 목록 항목 합계 (srno 있는 항목만)
+    private int skipped; // srno 가 없어 건너뛴 항목 수
+    private int unique; // srno 기준 중복 제거 후 작업 수
+    private int detailFetches; // 실제 상세 요청 수
+    private int fetchesSaved; // 중복으로 생략된 상세 요청 수 (listed - unique)
+    private int saved; // 저장된 판례 수
+}
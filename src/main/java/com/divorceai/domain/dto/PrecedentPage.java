@@ -0,0 +1,21 @@
+package com.divorceai.domain.dto;
+
+import java.util.List;
+
+import com.divorceai.domain.Precedent;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class PrecedentPage {
+    private List<Precedent> items;
+    private String nextCursor; // 다음 페이지 커서 (마지막 페이지면 null)
+}
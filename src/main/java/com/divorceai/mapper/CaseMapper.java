@@ -1,8 +1,14 @@
 package com.divorceai.mapper;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import com.divorceai.domain.Precedent;
+
 @Mapper
 public interface CaseMapper {
 
@@ -14,4 +20,25 @@ public interface CaseMapper {
             @Param("summary") String summary,
             @Param("url") String url,
             @Param("fullText") String fullText);
+
+    int insertCaseKeywords(
+            @Param("caseNo") String caseNo,
+            @Param("keywords") Collection<String> keywords);
+
+    List<Precedent> findPrecedents(
+            @Param("court") String court,
+            @Param("type") String type,
+            @Param("keyword") String keyword,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("afterDate") LocalDate afterDate, // 키셋 커서 (NULL 가능)
+            @Param("afterCaseNo") String afterCaseNo,
+            @Param("limit") int limit);
+
+    Long findBodyLength(@Param("caseNo") String caseNo);
+
+    byte[] findBodySlice(
+            @Param("caseNo") String caseNo,
+            @Param("from") long from, // 1부터
+            @Param("length") int length);
 }
@@ -9,6 +9,8 @@ import java.util.List;
 @Mapper
 public interface RequestMapper {
     void insertRequest(Request request);
+    void insertRequestBatch(Request request);
     List<Request> findAll();
     Request findById(@Param("id") Long id);
+    String findListWatermark();
 }
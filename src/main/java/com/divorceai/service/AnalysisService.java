@@ -7,10 +7,6 @@ import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
@@ -30,6 +26,7 @@ public class AnalysisService {
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
     private final AnalyzeMapper analyzeMapper;
+    private final FlaskWireCodec flaskWire;
 
     @Value("${flask.base-url:http://127.0.0.1:5001}")
     private String flaskBaseUrl;
@@ -64,13 +61,8 @@ public class AnalysisService {
             payload.put("question", buildQuestion(req));
             payload.put("top_k", req.getTopK() != null ? req.getTopK() : 5);
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            HttpEntity<String> entity = new HttpEntity<>(objectMapper.writeValueAsString(payload), headers);
-
-            // 2) 호출
-            ResponseEntity<String> resp = restTemplate.exchange(
-                    flaskBaseUrl + "/rag", HttpMethod.POST, entity, String.class);
+            // 2) 호출 (CBOR/JSON 협상은 FlaskWireCodec 이 담당)
+            ResponseEntity<byte[]> resp = flaskWire.post(restTemplate, flaskBaseUrl + "/rag", payload);
 
             if (!resp.getStatusCode().is2xxSuccessful() || resp.getBody() == null) {
                 out.setOk(false);
@@ -79,7 +71,7 @@ public class AnalysisService {
             }
 
             // 3) 응답 매핑
-            JsonNode json = objectMapper.readTree(resp.getBody());
+            JsonNode json = flaskWire.readTree(resp);
 
             out.setOk(true);
             out.setAnswer(json.path("answer").asText(""));
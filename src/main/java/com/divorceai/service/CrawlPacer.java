@@ -0,0 +1,113 @@
+package com.divorceai.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 🔹 크롤링 요청 속도 조절기 (AIMD)
+ * - 정상 응답(지연 < latency-target-ms)마다 rate 를 increase-step 만큼 올리고
+ * - 429/5xx/타임아웃/빈 본문이면 decrease-factor 를 곱해 내림
+ * - 지연만 길어지면 latency-decrease-factor 로 완만하게 내림
+ * - rate 는 [floor, ceiling] (초당 요청 수) 범위로 제한
+ */
+@Component
+public class CrawlPacer {
+
+    private final double floor;
+    private final double ceiling;
+    private final double increaseStep;
+    private final double decreaseFactor;
+    private final double latencyDecreaseFactor;
+    private final long latencyTargetMs;
+
+    private double rate; // 현재 초당 요청 수
+    private long nextAllowedNanos = System.nanoTime();
+    private long successes;
+    private long congestions;
+
+    public CrawlPacer(
+            @Value("${crawler.rate.initial:1.0}") double initial,
+            @Value("${crawler.rate.floor:0.2}") double floor,
+            @Value("${crawler.rate.ceiling:8.0}") double ceiling,
+            @Value("${crawler.rate.increase-step:0.2}") double increaseStep,
+            @Value("${crawler.rate.decrease-factor:0.5}") double decreaseFactor,
+            @Value("${crawler.rate.latency-decrease-factor:0.8}") double latencyDecreaseFactor,
+            @Value("${crawler.rate.latency-target-ms:3000}") long latencyTargetMs) {
+        if (floor <= 0 || ceiling < floor)
+            throw new IllegalArgumentException("crawler.rate: 0 < floor <= ceiling 이어야 함");
+        this.floor = floor;
+        this.ceiling = ceiling;
+        this.increaseStep = increaseStep;
+        this.decreaseFactor = decreaseFactor;
+        this.latencyDecreaseFactor = latencyDecreaseFactor;
+        this.latencyTargetMs = latencyTargetMs;
+        this.rate = clamp(initial);
+    }
+
+    /** 🔸 다음 요청 시각까지 대기 (현재 rate 기준 간격) */
+    public void acquire() throws InterruptedException {
+        long waitNanos = reserve(System.nanoTime());
+        if (waitNanos > 0)
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+
+    /** 🔹 now 기준 다음 슬롯 예약, 대기해야 할 ns 반환 */
+    synchronized long reserve(long now) {
+        long slot = Math.max(now, nextAllowedNanos);
+        nextAllowedNanos = slot + intervalNanos();
+        return slot - now;
+    }
+
+    /** 🔸 정상 응답: 지연이 목표 이내면 가산 증가, 넘으면 완만히 감소 */
+    public synchronized void onSuccess(long latencyMs) {
+        successes++;
+        if (latencyMs > latencyTargetMs)
+            rate = clamp(rate * latencyDecreaseFactor);
+        else
+            rate = clamp(rate + increaseStep);
+    }
+
+    /** 🔸 429/5xx/타임아웃/빈 본문: 승산 감소 */
+    public synchronized void onCongestion() {
+        congestions++;
+        rate = clamp(rate * decreaseFactor);
+    }
+
+    /** 🔸 Retry-After 가 있으면 그 시간만큼 다음 요청을 미룸 */
+    public void onCongestion(long retryAfterSeconds) {
+        onCongestion(retryAfterSeconds, System.nanoTime());
+    }
+
+    synchronized void onCongestion(long retryAfterSeconds, long now) {
+        onCongestion();
+        if (retryAfterSeconds > 0)
+            nextAllowedNanos = Math.max(nextAllowedNanos, now + TimeUnit.SECONDS.toNanos(retryAfterSeconds));
+    }
+
+    public synchronized double currentRate() {
+        return rate;
+    }
+
+    /** 🔹 /api/crawl/rate 노출용 스냅샷 */
+    public synchronized Map<String, Object> snapshot() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("ratePerSec", rate);
+        m.put("floor", floor);
+        m.put("ceiling", ceiling);
+        m.put("successes", successes);
+        m.put("congestions", congestions);
+        return m;
+    }
+
+    private long intervalNanos() {
+        return (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+    }
+
+    private double clamp(double r) {
+        return Math.max(floor, Math.min(ceiling, r));
+    }
+}
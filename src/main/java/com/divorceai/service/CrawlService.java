@@ -2,17 +2,25 @@ package com.divorceai.service;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
+import com.divorceai.domain.dto.CrawlSummary;
 import com.divorceai.mapper.CaseMapper;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * 🔹 Flask 연동 기반 크롤링 서비스
@@ -24,14 +32,18 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 public class CrawlService {
 
     private final CaseMapper caseMapper;
-    private final ObjectMapper om = new ObjectMapper();
-    private final RestTemplate rest = new RestTemplate();
+    private final CrawlPacer pacer;
+    private final FlaskWireCodec flaskWire;
+    private final RestTemplate rest;
 
     @Value("${flask.base-url}")
     private String flaskBaseUrl; // e.g. http://127.0.0.1:5001
 
-    public CrawlService(CaseMapper caseMapper) {
+    public CrawlService(CaseMapper caseMapper, CrawlPacer pacer, FlaskWireCodec flaskWire, RestTemplate rest) {
         this.caseMapper = caseMapper;
+        this.rest = rest; // RestTemplateConfig: flask.timeout-ms 연결/읽기 타임아웃
+        this.pacer = pacer;
+        this.flaskWire = flaskWire;
     }
 
     /**
@@ -42,70 +54,191 @@ public class CrawlService {
      * @param pageSize 한 페이지당 결과 수
      */
     public int crawlOnce(String keyword, int page, int pageSize) throws Exception {
-        System.out.println("🔎 [Crawl] keyword=" + keyword + ", page=" + page + ", size=" + pageSize);
+        return crawlKeywords(List.of(keyword), page, pageSize).getSaved();
+    }
 
-        // Flask 서버에 요청할 URL
-        String url = String.format("%s/crawl_list?keyword=%s&page=%d&size=%d",
-                flaskBaseUrl, keyword, page, pageSize);
+    /**
+     * 🔸 다중 키워드 크롤링
+     * - 키워드별 목록을 먼저 모두 받아 srno 기준으로 하나의 작업 집합을 만든 뒤
+     * - 상세 본문은 srno 당 한 번만 요청
+     * - srno 가 없는 항목은 상세를 받을 수 없으므로 skip
+     * - 매칭된 키워드 전체는 precedent_keywords 에 누적 (type 은 처음 저장될 때의 첫 매칭 키워드로 유지)
+     *
+     * @param keywords 검색 키워드 목록 (예: 이혼, 위자료, 양육권, 재산분할)
+     */
+    public CrawlSummary crawlKeywords(List<String> keywords, int page, int pageSize) throws Exception {
+        List<String> kws = keywords.stream()
+                .map(String::trim)
+                .filter(k -> !k.isBlank())
+                .distinct()
+                .toList();
+        System.out.println("🔎 [Crawl] keywords=" + kws + ", page=" + page + ", size=" + pageSize);
 
-        ResponseEntity<String> res = rest.exchange(url, HttpMethod.GET, null, String.class);
-        if (res.getStatusCode() != HttpStatus.OK || res.getBody() == null) {
-            System.out.println("❌ [Flask] 목록 요청 실패: " + res.getStatusCode());
-            return 0;
-        }
+        // 1) 키워드별 목록 → srno 기준 작업 집합
+        Map<String, WorkItem> work = new LinkedHashMap<>();
+        int listed = 0;
+        int skipped = 0;
+        for (String keyword : kws) {
+            JsonNode items = fetchListFromFlask(keyword, page, pageSize);
+            if (items == null)
+                continue;
+            System.out.println("📦 [Crawl] keyword=" + keyword + " items size=" + items.size());
 
-        JsonNode root = om.readTree(res.getBody());
-        JsonNode items = root.at("/data");
-        if (items.isMissingNode() || !items.isArray()) {
-            System.out.println("❌ [Crawl] 목록 데이터 없음");
-            return 0;
+            for (JsonNode n : items) {
+                String srno = text(n, "srno");
+                if (srno.isBlank()) {
+                    skipped++;
+                    System.out.println("⛔ [Crawl] srno 없음 → skip caseNo=" + text(n, "case_no", "caseNo"));
+                    continue;
+                }
+                listed++;
+                work.computeIfAbsent(srno, k -> new WorkItem(n, keyword)).keywords.add(keyword);
+            }
         }
 
+        // 2) 상세 요청은 작업 집합 기준으로 한 번씩
         int saved = 0;
-        System.out.println("📦 [Crawl] items size=" + items.size());
-
-        for (JsonNode n : items) {
-            String caseNo = text(n, "case_no", "caseNo");
-            String court = text(n, "court");
-            String dateRaw = text(n, "judgment_date", "date");
-            String summary = clean(text(n, "summary"));
-            String srno = text(n, "srno");
-
-            String judgedAt = normalizeDate(dateRaw);
-            String type = keyword;
-            String urlDetail = flaskBaseUrl + "/crawl_detail?srno=" + srno + "&keyword=" + keyword;
+        int fetches = 0;
+        for (WorkItem w : work.values()) {
+            String urlDetail = flaskBaseUrl + "/crawl_detail?srno=" + w.srno + "&keyword=" + w.primaryKeyword;
 
             try {
                 // Flask에 상세 요청 보내기
-                String html = fetchDetailFromFlask(srno, keyword);
+                fetches++;
+                String html = fetchDetailFromFlask(w.srno, w.primaryKeyword);
                 if (html == null || html.isBlank()) {
-                    System.out.println("⛔ [Detail] empty for caseNo=" + caseNo);
+                    System.out.println("⛔ [Detail] empty for caseNo=" + w.caseNo);
                     continue;
                 }
 
-                // DB 저장
-                saved += caseMapper.upsertCase(caseNo, court, judgedAt, type, summary, urlDetail, html);
-                System.out.println("💾 [Save] " + caseNo + " inserted.");
-
-                // 요청 간 지연 (차단 방지)
-                Thread.sleep(300 + (long) (Math.random() * 600));
+                // DB 저장 (ON DUPLICATE KEY UPDATE 는 갱신 시 affected rows 가 2 → 건수로만 셈)
+                if (caseMapper.upsertCase(w.caseNo, w.court, w.judgedAt, w.primaryKeyword, w.summary,
+                        urlDetail, html) > 0)
+                    saved++;
+                caseMapper.insertCaseKeywords(w.caseNo, w.keywords);
+                System.out.println("💾 [Save] " + w.caseNo + " inserted. keywords=" + w.keywords);
 
+            } catch (InterruptedException ie) {
+                // 중단 요청: 플래그 복구 후 남은 작업 포기
+                Thread.currentThread().interrupt();
+                System.out.println("⛔ [Crawl] interrupted → stop");
+                break;
             } catch (Exception ex) {
-                System.out.println("⚠️ [Detail] fetch failed srno=" + srno + " -> " + ex.getMessage());
+                System.out.println("⚠️ [Detail] fetch failed srno=" + w.srno + " -> " + ex.getMessage());
             }
         }
 
-        System.out.println("✅ [Crawl Done] saved=" + saved);
-        return saved;
+        CrawlSummary summary = new CrawlSummary(kws, listed, skipped, work.size(), fetches,
+                listed - work.size(), saved);
+        System.out.println("✅ [Crawl Done] " + summary);
+        return summary;
     }
 
-    /** 🔹 Flask 서버에서 상세 본문 HTML 받아오기 */
-    private String fetchDetailFromFlask(String srno, String keyword) {
+    /**
+     * 🔹 Flask 서버에서 판례 목록 받아오기 (실패 시 null → 다음 키워드로 진행)
+     * - 상세 요청과 마찬가지로 응답 결과(지연/429/5xx/타임아웃)를 pacer 에 피드백
+     */
+    private JsonNode fetchListFromFlask(String keyword, int page, int pageSize) throws Exception {
+        // Flask 서버에 요청할 URL
+        String url = String.format("%s/crawl_list?keyword=%s&page=%d&size=%d",
+                flaskBaseUrl, keyword, page, pageSize);
+
+        pacer.acquire();
+        long t0 = System.nanoTime();
+        ResponseEntity<byte[]> res;
+        try {
+            res = flaskWire.get(rest, url);
+        } catch (HttpStatusCodeException e) {
+            if (e.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()
+                    || e.getStatusCode().is5xxServerError())
+                pacer.onCongestion(retryAfterSeconds(e));
+            System.out.println("❌ [Flask] 목록 요청 실패 keyword=" + keyword + ": " + e.getStatusCode());
+            return null;
+        } catch (ResourceAccessException e) {
+            // 타임아웃/연결 실패도 혼잡 신호로 취급
+            pacer.onCongestion();
+            System.out.println("❌ [Flask] 목록 요청 실패 keyword=" + keyword + ": " + e.getMessage());
+            return null;
+        }
+        long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0);
+
+        if (res.getStatusCode() != HttpStatus.OK || res.getBody() == null) {
+            System.out.println("❌ [Flask] 목록 요청 실패: " + res.getStatusCode());
+            return null;
+        }
+        pacer.onSuccess(latencyMs);
+
+        JsonNode root = flaskWire.readTree(res);
+        JsonNode items = root.at("/data");
+        if (items.isMissingNode() || !items.isArray()) {
+            System.out.println("❌ [Crawl] 목록 데이터 없음 keyword=" + keyword);
+            return null;
+        }
+        return items;
+    }
+
+    /** 🔹 srno 하나에 대한 작업 단위 (목록 메타데이터 + 매칭 키워드) */
+    private static class WorkItem {
+        final String srno;
+        final String caseNo;
+        final String court;
+        final String judgedAt;
+        final String summary;
+        final String primaryKeyword;
+        final Set<String> keywords = new LinkedHashSet<>();
+
+        WorkItem(JsonNode n, String keyword) {
+            this.srno = text(n, "srno");
+            this.caseNo = text(n, "case_no", "caseNo");
+            this.court = text(n, "court");
+            this.judgedAt = normalizeDate(text(n, "judgment_date", "date"));
+            this.summary = clean(text(n, "summary"));
+            this.primaryKeyword = keyword;
+        }
+    }
+
+    /**
+     * 🔹 Flask 서버에서 상세 본문 HTML 받아오기
+     * - 요청 전 pacer 로 속도 조절, 응답 결과(지연/429/5xx/빈 본문)를 pacer 에 피드백
+     */
+    private String fetchDetailFromFlask(String srno, String keyword) throws Exception {
         String url = String.format("%s/crawl_detail?srno=%s&keyword=%s", flaskBaseUrl, srno, keyword);
-        ResponseEntity<String> res = rest.exchange(url, HttpMethod.GET, null, String.class);
-        if (res.getStatusCode() != HttpStatus.OK || res.getBody() == null)
+        pacer.acquire();
+        long t0 = System.nanoTime();
+        ResponseEntity<byte[]> res;
+        try {
+            res = flaskWire.get(rest, url);
+        } catch (HttpStatusCodeException e) {
+            if (e.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()
+                    || e.getStatusCode().is5xxServerError())
+                pacer.onCongestion(retryAfterSeconds(e));
+            throw e;
+        } catch (ResourceAccessException e) {
+            // 타임아웃/연결 실패도 혼잡 신호로 취급
+            pacer.onCongestion();
+            throw e;
+        }
+        long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0);
+
+        String html = res.getStatusCode() == HttpStatus.OK ? flaskWire.readText(res) : null;
+        if (html == null || html.isBlank()) {
+            pacer.onCongestion();
             return "";
-        return res.getBody();
+        }
+        pacer.onSuccess(latencyMs);
+        return html;
+    }
+
+    /** 🔹 Retry-After(초) 헤더 파싱, 없거나 날짜 형식이면 0 */
+    private static long retryAfterSeconds(HttpStatusCodeException e) {
+        String v = e.getResponseHeaders() == null ? null : e.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+        if (v == null)
+            return 0;
+        try {
+            return Long.parseLong(v.trim());
+        } catch (NumberFormatException ignore) {
+            return 0;
+        }
     }
 
     /** 🔹 JSON 텍스트 추출 */
@@ -121,7 +254,7 @@ public class CrawlService {
         return "";
     }
 
-    /** 🔹 날짜 YYYY-MM-DD 변환 */
+    /** 🔹 날짜 YYYY-MM-DD 변환 (알 수 없는 형식이면 "" → DB 에는 NULL) */
     private static String normalizeDate(String s) {
         if (s == null)
             return "";
@@ -136,7 +269,7 @@ public class CrawlService {
             LocalDate.parse(s, DateTimeFormatter.ISO_LOCAL_DATE);
             return s;
         } catch (Exception ignore) {
-            return s;
+            return "";
         }
     }
 
@@ -0,0 +1,112 @@
+package com.divorceai.service;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+/**
+ * 🔹 Spring ↔ Flask 전송 포맷 협상 (CBOR / JSON)
+ * - 요청마다 Accept: application/cbor, application/json;q=0.9 를 보냄
+ * - Flask 가 CBOR 로 응답한 적이 있으면 이후 요청 본문도 CBOR 로 보냄
+ * - CBOR 본문에 415 가 오면 JSON 으로 재시도하고 이후 요청 본문은 JSON 고정
+ *   (requestCborRejected 는 단방향: CBOR 응답을 받아도 다시 켜지지 않음, 응답은 계속 CBOR 수신 가능)
+ * flask.binary.enabled=false 면 항상 JSON.
+ */
+@Component
+public class FlaskWireCodec {
+
+    public static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+
+    private final ObjectMapper json;
+    private final ObjectMapper cbor = new CBORMapper();
+    private final AtomicBoolean peerCbor = new AtomicBoolean(false);
+    private final AtomicBoolean requestCborRejected = new AtomicBoolean(false);
+    private final boolean enabled;
+
+    public FlaskWireCodec(ObjectMapper json, @Value("${flask.binary.enabled:true}") boolean enabled) {
+        this.json = json;
+        this.enabled = enabled;
+    }
+
+    /** 🔸 GET (본문 없음) */
+    public ResponseEntity<byte[]> get(RestTemplate rest, String url) {
+        return rest.exchange(url, HttpMethod.GET, new HttpEntity<>(headers(null)), byte[].class);
+    }
+
+    /** 🔸 POST (payload 를 협상된 포맷으로 인코딩, 415 면 JSON 재시도) */
+    public ResponseEntity<byte[]> post(RestTemplate rest, String url, Object payload) throws IOException {
+        boolean useCbor = enabled && peerCbor.get() && !requestCborRejected.get();
+        try {
+            return rest.exchange(url, HttpMethod.POST, entity(payload, useCbor), byte[].class);
+        } catch (HttpClientErrorException.UnsupportedMediaType e) {
+            if (!useCbor)
+                throw e;
+            requestCborRejected.set(true);
+            return rest.exchange(url, HttpMethod.POST, entity(payload, false), byte[].class);
+        }
+    }
+
+    /** 🔸 응답 Content-Type 에 맞춰 트리로 디코딩 (CBOR 응답이면 상대가 지원하는 것으로 기록) */
+    public JsonNode readTree(ResponseEntity<byte[]> res) throws IOException {
+        byte[] body = res.getBody();
+        if (body == null)
+            return json.missingNode();
+        if (isCbor(res)) {
+            peerCbor.set(true);
+            return cbor.readTree(body);
+        }
+        return json.readTree(body);
+    }
+
+    /** 🔸 본문이 문자열 하나인 응답 (crawl_detail HTML). CBOR 이면 text string 값 */
+    public String readText(ResponseEntity<byte[]> res) throws IOException {
+        byte[] body = res.getBody();
+        if (body == null)
+            return null;
+        if (isCbor(res)) {
+            peerCbor.set(true);
+            return cbor.readTree(body).asText("");
+        }
+        MediaType type = res.getHeaders().getContentType();
+        Charset charset = (type != null && type.getCharset() != null) ? type.getCharset() : StandardCharsets.UTF_8;
+        return new String(body, charset);
+    }
+
+    private HttpEntity<byte[]> entity(Object payload, boolean useCbor) throws IOException {
+        HttpHeaders headers = headers(useCbor ? CBOR : MediaType.APPLICATION_JSON);
+        byte[] body = useCbor ? cbor.writeValueAsBytes(payload) : json.writeValueAsBytes(payload);
+        return new HttpEntity<>(body, headers);
+    }
+
+    private HttpHeaders headers(MediaType contentType) {
+        HttpHeaders headers = new HttpHeaders();
+        if (contentType != null)
+            headers.setContentType(contentType);
+        if (enabled)
+            headers.set(HttpHeaders.ACCEPT, "application/cbor, application/json;q=0.9, */*;q=0.8");
+        else
+            headers.setAccept(List.of(MediaType.APPLICATION_JSON, MediaType.ALL));
+        return headers;
+    }
+
+    private static boolean isCbor(ResponseEntity<byte[]> res) {
+        MediaType type = res.getHeaders().getContentType();
+        return type != null && CBOR.isCompatibleWith(type);
+    }
+}
@@ -0,0 +1,103 @@
+package com.divorceai.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.core.io.AbstractResource;
+
+import com.divorceai.mapper.CaseMapper;
+
+/**
+ * 🔹 precedents.full_text 를 고정 크기 바이트 구간 단위로 읽어오는 Resource
+ * - MariaDB 드라이버는 LOB 컬럼을 행 단위로 통째로 받으므로, SUBSTRING 구간 조회로 힙 사용량을 chunk 크기로 제한
+ * - contentLength 를 알고 skip 이 구간 이동이라 Spring 의 HTTP Range(206) 처리에 그대로 사용 가능
+ * - 비용: 구간 조회마다 DB 가 LOB 전체를 읽어 CAST 하므로 전체 읽기는 O(크기²/chunk).
+ *   힙 상한이 목적이므로 chunk 는 보통 본문보다 작게(기본 128KB) 두고 이 재읽기 비용을 감수한다
+ */
+public class PrecedentBodyResource extends AbstractResource {
+
+    private final CaseMapper caseMapper;
+    private final String caseNo;
+    private final long length;
+    private final int chunkSize;
+
+    public PrecedentBodyResource(CaseMapper caseMapper, String caseNo, long length, int chunkSize) {
+        this.caseMapper = caseMapper;
+        this.caseNo = caseNo;
+        this.length = length;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public String getDescription() {
+        return "precedent body [" + caseNo + "]";
+    }
+
+    @Override
+    public long contentLength() {
+        return length;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new ChunkedBodyStream();
+    }
+
+    /** 🔹 pos 부터 chunkSize 씩 DB 에서 당겨오는 스트림 */
+    private class ChunkedBodyStream extends InputStream {
+        private long pos; // 다음에 DB 에서 읽을 위치 (0부터)
+        private byte[] buf = new byte[0];
+        private int bufPos;
+
+        @Override
+        public int read() throws IOException {
+            if (!ensureBuffer())
+                return -1;
+            return buf[bufPos++] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0)
+                return 0;
+            if (!ensureBuffer())
+                return -1;
+            int n = Math.min(len, buf.length - bufPos);
+            System.arraycopy(buf, bufPos, b, off, n);
+            bufPos += n;
+            return n;
+        }
+
+        /** 버퍼에 남은 만큼 버리고 나머지는 읽지 않고 위치만 이동 (Range 시작점) */
+        @Override
+        public long skip(long n) {
+            if (n <= 0)
+                return 0;
+            long fromBuf = Math.min(n, buf.length - bufPos);
+            bufPos += (int) fromBuf;
+            long fromDb = Math.min(n - fromBuf, length - pos);
+            pos += fromDb;
+            return fromBuf + fromDb;
+        }
+
+        @Override
+        public int available() {
+            return buf.length - bufPos;
+        }
+
+        private boolean ensureBuffer() throws IOException {
+            if (bufPos < buf.length)
+                return true;
+            if (pos >= length)
+                return false;
+            int want = (int) Math.min(chunkSize, length - pos);
+            byte[] next = caseMapper.findBodySlice(caseNo, pos + 1, want);
+            if (next == null || next.length == 0)
+                throw new IOException("precedent body shrank while streaming: " + caseNo + " @" + pos);
+            buf = next;
+            bufPos = 0;
+            pos += next.length;
+            return true;
+        }
+    }
+}
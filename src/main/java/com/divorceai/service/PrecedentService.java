@@ -0,0 +1,89 @@
+package com.divorceai.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import com.divorceai.domain.Precedent;
+import com.divorceai.domain.dto.PrecedentPage;
+import com.divorceai.mapper.CaseMapper;
+
+/**
+ * 🔹 판례 조회 서비스
+ * - 목록은 메타데이터만, (judgment_date, case_no) 키셋 페이징 → 페이지 깊이와 무관하게 일정 비용
+ * - 본문은 PrecedentBodyResource 로 구간 스트리밍
+ */
+@Service
+public class PrecedentService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final CaseMapper caseMapper;
+
+    @Value("${precedents.body.chunk-bytes:131072}")
+    private int bodyChunkBytes;
+
+    public PrecedentService(CaseMapper caseMapper) {
+        this.caseMapper = caseMapper;
+    }
+
+    /**
+     * 🔸 판례 목록 (최신 판결일 순)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     */
+    public PrecedentPage list(String court, String type, String keyword, LocalDate from, LocalDate to,
+            String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        LocalDate afterDate = null;
+        String afterCaseNo = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] c = decodeCursor(cursor);
+            afterDate = c[0].isEmpty() ? null : LocalDate.parse(c[0]);
+            afterCaseNo = c[1];
+        }
+
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        List<Precedent> rows = caseMapper.findPrecedents(court, type, keyword, from, to, afterDate, afterCaseNo,
+                limit + 1);
+        String next = null;
+        if (rows.size() > limit) {
+            rows = rows.subList(0, limit);
+            Precedent last = rows.get(limit - 1);
+            next = encodeCursor(last.getJudgmentDate(), last.getCaseNo());
+        }
+        return new PrecedentPage(rows, next);
+    }
+
+    /** 🔸 판례 본문 (없으면 null) */
+    public Resource body(String caseNo) {
+        Long length = caseMapper.findBodyLength(caseNo);
+        if (length == null)
+            return null;
+        return new PrecedentBodyResource(caseMapper, caseNo, length, bodyChunkBytes);
+    }
+
+    /** 🔹 커서 = base64url("yyyy-MM-dd|caseNo"), 날짜 NULL 이면 빈 문자열 */
+    private static String encodeCursor(LocalDate date, String caseNo) {
+        String raw = (date == null ? "" : date.toString()) + "|" + caseNo;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            if (parts.length != 2)
+                throw new IllegalArgumentException();
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 cursor: " + cursor);
+        }
+    }
+}
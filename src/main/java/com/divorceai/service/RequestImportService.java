@@ -0,0 +1,309 @@
+package com.divorceai.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.sql.BatchUpdateException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTransientException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.divorceai.domain.Request;
+import com.divorceai.domain.dto.BulkImportResponse;
+import com.divorceai.mapper.RequestMapper;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 🔹 NDJSON 벌크 적재 서비스
+ * - 요청 본문을 한 줄씩 읽어 Jackson 스트리밍 파서로 파싱 (본문 전체를 메모리에 올리지 않음)
+ * - 한 줄은 max-line-chars 까지만 버퍼링, 넘으면 해당 라인만 에러 처리
+ * - chunk-size 단위로 JDBC 배치 INSERT + 트랜잭션 커밋
+ * - chunk 가 행 단위 데이터 오류(제약 위반 등)로 실패하면 반씩 나눠 새 트랜잭션으로 재시도 → 문제 행만 에러로 보고
+ * - DB 장애(연결 실패/타임아웃 등)면 분할하지 않고 즉시 중단, 커밋 안 된 첫 라인을 stoppedAtLine 으로 보고
+ * - 라인별 에러는 응답에 모아서 반환 (상한 max-errors)
+ */
+@Service
+public class RequestImportService {
+
+    private final ObjectMapper objectMapper;
+    private final Consumer<List<Request>> chunkWriter;
+    private final RequestVersionIndex versionIndex;
+
+    @Value("${requests.bulk.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${requests.bulk.max-errors:1000}")
+    private int maxErrors;
+
+    @Value("${requests.bulk.max-line-chars:1048576}")
+    private int maxLineChars;
+
+    @Autowired
+    public RequestImportService(ObjectMapper objectMapper, TransactionTemplate tx,
+            SqlSessionFactory sqlSessionFactory, RequestVersionIndex versionIndex) {
+        this(objectMapper, batchWriter(tx, sqlSessionFactory), versionIndex);
+    }
+
+    /** 🔹 테스트용: rows 를 한 트랜잭션으로 적재하는 writer 를 직접 지정 */
+    RequestImportService(ObjectMapper objectMapper, Consumer<List<Request>> chunkWriter,
+            RequestVersionIndex versionIndex) {
+        this.objectMapper = objectMapper;
+        this.chunkWriter = chunkWriter;
+        this.versionIndex = versionIndex;
+    }
+
+    /** 🔹 rows 를 하나의 트랜잭션으로 배치 INSERT (실패 시 트랜잭션 롤백 후 예외 전파) */
+    private static Consumer<List<Request>> batchWriter(TransactionTemplate tx, SqlSessionFactory sqlSessionFactory) {
+        // 기본 SqlSessionTemplate(SIMPLE)은 그대로 두고, 벌크 적재 전용 BATCH 세션만 따로 둔다
+        SqlSessionTemplate batchSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        return rows -> tx.executeWithoutResult(status -> {
+            RequestMapper mapper = batchSession.getMapper(RequestMapper.class);
+            for (Request r : rows)
+                mapper.insertRequestBatch(r);
+            batchSession.flushStatements();
+        });
+    }
+
+    /**
+     * 🔸 NDJSON 스트림 적재
+     *
+     * @param body 한 줄에 Request JSON 하나 (빈 줄은 무시)
+     */
+    public BulkImportResponse importNdjson(InputStream body) throws IOException {
+        long started = System.nanoTime();
+        BulkImportResponse res = new BulkImportResponse();
+
+        List<Request> chunk = new ArrayList<>(chunkSize);
+        List<Long> chunkLines = new ArrayList<>(chunkSize);
+
+        try (Reader in = new InputStreamReader(body, StandardCharsets.UTF_8)) {
+            BoundedLineReader reader = new BoundedLineReader(in, maxLineChars);
+            String line;
+            long lineNo = 0;
+            while ((line = reader.next()) != null) {
+                lineNo++;
+                if (reader.overflowed()) {
+                    res.setTotal(res.getTotal() + 1);
+                    addError(res, lineNo, "라인 길이 초과 (max-line-chars=" + maxLineChars + ")");
+                    continue;
+                }
+                if (line.isBlank())
+                    continue;
+                res.setTotal(res.getTotal() + 1);
+
+                try {
+                    chunk.add(parseLine(line));
+                    chunkLines.add(lineNo);
+                } catch (JsonProcessingException e) {
+                    addError(res, lineNo, "JSON 파싱 실패: " + e.getOriginalMessage());
+                }
+
+                if (chunk.size() >= chunkSize)
+                    flushChunk(chunk, chunkLines, res);
+            }
+            flushChunk(chunk, chunkLines, res);
+        } catch (ImportAbortedException e) {
+            // 나머지 스트림은 읽지 않음 (클라이언트는 stoppedAtLine 부터 다시 보내면 됨)
+            res.setAborted(true);
+            res.setStoppedAtLine(e.line);
+            res.setAbortReason(rootMessage(e.getCause()));
+            System.out.printf("⛔ [Bulk] DB 오류로 중단 (line=%d): %s%n", e.line, res.getAbortReason());
+        }
+
+        long elapsedNanos = System.nanoTime() - started;
+        res.setElapsedMs(elapsedNanos / 1_000_000);
+        res.setRowsPerSecond(elapsedNanos == 0 ? 0 : res.getInserted() * 1_000_000_000.0 / elapsedNanos);
+        res.setOk(res.getFailed() == 0 && !res.isAborted());
+
+        System.out.printf("📥 [Bulk] total=%d inserted=%d failed=%d (%.1f rows/s)%n",
+                res.getTotal(), res.getInserted(), res.getFailed(), res.getRowsPerSecond());
+        return res;
+    }
+
+    /** 🔹 한 줄 = JSON 객체 하나. 뒤에 다른 토큰이 붙어 있으면 에러 */
+    private Request parseLine(String line) throws IOException {
+        try (JsonParser p = objectMapper.createParser(line)) {
+            if (p.nextToken() != JsonToken.START_OBJECT)
+                throw new IllegalLineException(p, "JSON 객체가 아님");
+            Request r = p.readValueAs(Request.class);
+            if (p.nextToken() != null)
+                throw new IllegalLineException(p, "한 줄에 JSON 값이 여러 개");
+            // id/created_at 은 DB가 채운다
+            r.setId(null);
+            r.setCreatedAt(null);
+            return r;
+        }
+    }
+
+    /** 🔹 모인 chunk 를 적재하고 비움 */
+    private void flushChunk(List<Request> chunk, List<Long> chunkLines, BulkImportResponse res) {
+        if (chunk.isEmpty())
+            return;
+        insertSplitting(chunk, chunkLines, res);
+        chunk.clear();
+        chunkLines.clear();
+    }
+
+    /**
+     * 🔹 rows 를 하나의 트랜잭션으로 적재.
+     * 행 단위 데이터 오류면 롤백 후 반씩 나눠 각각 새 트랜잭션으로 재시도 → 실패한 행 하나까지 좁혀서 그 라인만 에러 처리
+     * (문제 행 k개면 추가 트랜잭션은 대략 k·log2(chunk-size) 개).
+     * 그 밖의 실패(DB 장애 등)는 모든 행에서 똑같이 실패하므로 분할하지 않고 ImportAbortedException 으로 중단
+     */
+    private void insertSplitting(List<Request> rows, List<Long> lines, BulkImportResponse res) {
+        try {
+            chunkWriter.accept(rows);
+            res.setInserted(res.getInserted() + rows.size());
+            versionIndex.invalidateList();
+        } catch (RuntimeException e) {
+            if (!isRowError(e))
+                throw new ImportAbortedException(lines.get(0), e);
+            if (rows.size() == 1) {
+                addError(res, lines.get(0), "DB 저장 실패: " + rootMessage(e));
+                return;
+            }
+            int mid = rows.size() / 2;
+            insertSplitting(rows.subList(0, mid), lines.subList(0, mid), res);
+            insertSplitting(rows.subList(mid, rows.size()), lines.subList(mid, lines.size()), res);
+        }
+    }
+
+    /** 🔹 특정 행 때문에 난 오류인지 (제약 위반/배치 중 행 실패). 연결·타임아웃 계열이 섞여 있으면 false */
+    static boolean isRowError(Throwable e) {
+        boolean rowLevel = false;
+        for (Throwable t = e; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof TransientDataAccessException
+                    || t instanceof DataAccessResourceFailureException // CannotGetJdbcConnectionException 포함
+                    || t instanceof CannotCreateTransactionException
+                    || t instanceof SQLTransientException
+                    || t instanceof SQLNonTransientConnectionException)
+                return false;
+            if (t instanceof DataIntegrityViolationException || t instanceof BatchUpdateException)
+                rowLevel = true;
+        }
+        return rowLevel;
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable t = e;
+        while (t.getCause() != null && t.getCause() != t)
+            t = t.getCause();
+        return t.getMessage();
+    }
+
+    private void addError(BulkImportResponse res, long lineNo, String message) {
+        res.setFailed(res.getFailed() + 1);
+        if (res.getErrors().size() < maxErrors)
+            res.getErrors().add(new BulkImportResponse.LineError(lineNo, message));
+        else
+            res.setErrorsTruncated(true);
+    }
+
+    /**
+     * 🔹 길이 상한이 있는 라인 리더 ('\n' 기준, 끝의 '\r' 제거, 상한은 '\r' 제외 길이)
+     * 상한을 넘는 라인은 나머지를 버리고 overflowed() = true 로 표시 → 힙 사용량은 max 로 제한
+     */
+    static final class BoundedLineReader {
+        private final Reader in;
+        private final int max;
+        private final char[] buf = new char[8192];
+        private final StringBuilder sb = new StringBuilder();
+        private int pos;
+        private int len;
+        private boolean overflow;
+
+        BoundedLineReader(Reader in, int max) {
+            this.in = in;
+            this.max = max;
+        }
+
+        /** 다음 라인 (EOF 면 null). overflow 라인이면 빈 문자열 */
+        String next() throws IOException {
+            sb.setLength(0);
+            overflow = false;
+            boolean any = false;
+            while (true) {
+                if (pos >= len) {
+                    len = in.read(buf);
+                    pos = 0;
+                    if (len <= 0) {
+                        len = 0;
+                        return any ? finish() : null;
+                    }
+                }
+                any = true;
+                int start = pos;
+                while (pos < len && buf[pos] != '\n')
+                    pos++;
+                append(start, pos);
+                if (pos < len) {
+                    pos++; // '\n' 소비
+                    return finish();
+                }
+            }
+        }
+
+        boolean overflowed() {
+            return overflow;
+        }
+
+        private void append(int from, int to) {
+            if (overflow)
+                return;
+            // 끝의 '\r' 한 글자는 상한에 넣지 않으므로 max + 1 까지 버퍼링하고 finish() 에서 다시 확인
+            if (to - from > (long) max + 1 - sb.length()) {
+                overflow = true;
+                sb.setLength(0);
+                return;
+            }
+            sb.append(buf, from, to - from);
+        }
+
+        private String finish() {
+            int n = sb.length();
+            if (n > 0 && sb.charAt(n - 1) == '\r')
+                sb.setLength(n - 1);
+            if (sb.length() > max) {
+                overflow = true;
+                sb.setLength(0);
+            }
+            return sb.toString();
+        }
+    }
+
+    /** 🔹 DB 장애로 적재 중단 (line = 커밋되지 않은 첫 라인) */
+    private static class ImportAbortedException extends RuntimeException {
+        final long line;
+
+        ImportAbortedException(long line, Throwable cause) {
+            super(cause);
+            this.line = line;
+        }
+    }
+
+    /** 🔹 라인 형식 오류 (JsonProcessingException 으로 묶어서 처리) */
+    private static class IllegalLineException extends JsonProcessingException {
+        IllegalLineException(JsonParser p, String msg) {
+            super(msg, p.currentLocation());
+        }
+    }
+}
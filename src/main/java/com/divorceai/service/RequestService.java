@@ -11,9 +11,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class RequestService {
     private final RequestMapper mapper;
+    private final RequestVersionIndex versionIndex;
 
     public void save(Request request) {
         mapper.insertRequest(request);
+        versionIndex.invalidateList();
     }
 
     public List<Request> getAll() {
@@ -0,0 +1,87 @@
+package com.divorceai.service;
+
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.divorceai.domain.Request;
+import com.divorceai.mapper.RequestMapper;
+
+/**
+ * 🔹 requests ETag 용 인메모리 버전 인덱스
+ * - 단건: 행은 생성 후 불변이므로 id + created_at 으로 강한 ETag. 한 번 본 id 는 LRU 로 기억
+ *   (created_at 은 UTC 기준 epoch ms 로 고정 → 서버 시간대가 달라도 같은 행은 같은 ETag)
+ * - 목록: COUNT/MAX(id) 워터마크. insertRequest 시 무효화, 다른 인스턴스 INSERT 는 list-ttl-ms 안에 반영
+ *   목록은 크기 제한이 없어 gzip 대상이므로 약한(W/) ETag 사용 (Tomcat 은 강한 ETag 응답을 압축하지 않을 수 있음)
+ */
+@Component
+public class RequestVersionIndex {
+
+    private final RequestMapper mapper;
+    private final Map<Long, String> etags;
+    private final long listTtlMs;
+
+    private volatile String listEtag;
+    private volatile long listLoadedAt;
+    private final AtomicLong listGeneration = new AtomicLong();
+
+    public RequestVersionIndex(RequestMapper mapper,
+            @Value("${requests.etag.max-entries:10000}") int maxEntries,
+            @Value("${requests.etag.list-ttl-ms:5000}") long listTtlMs) {
+        this.mapper = mapper;
+        this.listTtlMs = listTtlMs;
+        this.etags = Collections.synchronizedMap(new LinkedHashMap<Long, String>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, String> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /** 🔸 이미 본 id 의 ETag (없으면 null → DB 조회 필요) */
+    public String knownEtag(Long id) {
+        return etags.get(id);
+    }
+
+    /** 🔸 조회한 행의 ETag 계산 + 기억 */
+    public String remember(Request r) {
+        long version = r.getCreatedAt() == null ? 0
+                : r.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+        String etag = "\"req-" + r.getId() + "-" + version + "\"";
+        etags.put(r.getId(), etag);
+        return etag;
+    }
+
+    /** 🔸 목록 ETag (워터마크가 만료됐을 때만 가벼운 COUNT/MAX 조회) */
+    public String listEtag() {
+        return listEtag(System.currentTimeMillis());
+    }
+
+    /** 🔹 nowMs 기준 목록 ETag */
+    String listEtag(long nowMs) {
+        String cached = listEtag;
+        if (cached != null && nowMs - listLoadedAt < listTtlMs)
+            return cached;
+        long gen = listGeneration.get();
+        String etag = "W/\"reqs-" + mapper.findListWatermark() + "\"";
+        synchronized (this) {
+            // 조회 도중 무효화됐으면 캐시하지 않음
+            if (gen == listGeneration.get()) {
+                listEtag = etag;
+                listLoadedAt = nowMs;
+            }
+        }
+        return etag;
+    }
+
+    /** 🔸 insertRequest 이후 호출 */
+    public synchronized void invalidateList() {
+        listGeneration.incrementAndGet();
+        listEtag = null;
+    }
+}
@@ -0,0 +1,9 @@
+-- 판례 ↔ 검색 키워드 (다중 키워드 크롤링에서 한 판례가 여러 키워드에 걸릴 수 있음)
+-- precedents.type 은 대표 키워드(요청 순서상 첫 키워드)만 유지
+CREATE TABLE IF NOT EXISTS precedent_keywords (
+  case_no    VARCHAR(100) NOT NULL,
+  keyword    VARCHAR(50)  NOT NULL,
+  created_at DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (case_no, keyword),
+  KEY idx_precedent_keywords_keyword (keyword)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,4 @@
+-- /api/precedents 키셋 페이징용 인덱스 (ORDER BY judgment_date DESC, case_no DESC)
+CREATE INDEX IF NOT EXISTS idx_precedents_date_case       ON precedents (judgment_date, case_no);
+CREATE INDEX IF NOT EXISTS idx_precedents_court_date_case ON precedents (court, judgment_date, case_no);
+CREATE INDEX IF NOT EXISTS idx_precedents_type_date_case  ON precedents (type, judgment_date, case_no);
@@ -0,0 +1,5 @@
+-- 크롤러가 날짜 없음을 '' 로 저장하던 행 정리 → NULL (키셋 페이징은 NULL 을 맨 뒤 구간으로 처리)
+-- 컬럼 타입(DATE/VARCHAR)과 무관하게 비교하도록 CHAR 로 캐스팅
+UPDATE precedents
+SET judgment_date = NULL
+WHERE CAST(judgment_date AS CHAR) IN ('', '0000-00-00');
@@ -0,0 +1,116 @@
+package com.divorceai.bench;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+/**
+ * 🔹 Spring ↔ Flask 전송 포맷 벤치마크 (JSON vs CBOR)
+ * - Flask /rag 응답 형태(snake_case)로 AnalyzeResponse 크기 페이로드 생성
+ * - 인코딩(writeValueAsBytes) / 디코딩(readTree, AnalysisService 와 동일) 스레드 CPU 시간과 바이트 수 비교
+ * 실행: ./gradlew wireBench [-Dbench.topK=5 -Dbench.chunkChars=1500]
+ */
+public class WireFormatBenchmark {
+
+    private static final int WARMUP = 3_000;
+    private static final int ITERATIONS = 5_000;
+    private static final int ROUNDS = 5;
+
+    private static final ThreadMXBean CPU = ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) throws Exception {
+        int topK = Integer.getInteger("bench.topK", 5);
+        int chunkChars = Integer.getInteger("bench.chunkChars", 1500);
+        Map<String, Object> payload = ragResponse(topK, chunkChars);
+
+        System.out.printf("payload: topK=%d, chunkChars=%d%n", topK, chunkChars);
+        run("json", new ObjectMapper(), payload);
+        run("cbor", new CBORMapper(), payload);
+    }
+
+    private static void run(String name, ObjectMapper mapper, Map<String, Object> payload) throws Exception {
+        byte[] bytes = mapper.writeValueAsBytes(payload);
+
+        for (int i = 0; i < WARMUP; i++) {
+            mapper.readTree(mapper.writeValueAsBytes(payload));
+        }
+
+        long bestEncode = Long.MAX_VALUE;
+        long bestDecode = Long.MAX_VALUE;
+        long sink = 0;
+        for (int r = 0; r < ROUNDS; r++) {
+            long t0 = CPU.getCurrentThreadCpuTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                sink += mapper.writeValueAsBytes(payload).length;
+            }
+            long t1 = CPU.getCurrentThreadCpuTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                JsonNode n = mapper.readTree(bytes);
+                sink += n.size();
+            }
+            long t2 = CPU.getCurrentThreadCpuTime();
+            bestEncode = Math.min(bestEncode, (t1 - t0) / ITERATIONS);
+            bestDecode = Math.min(bestDecode, (t2 - t1) / ITERATIONS);
+        }
+
+        System.out.printf("%-5s bytes/req=%7d  encode=%7.1f µs  decode=%7.1f µs  (sink=%d)%n",
+                name, bytes.length, bestEncode / 1000.0, bestDecode / 1000.0, sink % 10);
+    }
+
+    /** Flask /rag 응답 흉내 (references text 청크 + explanation highlights) */
+    private static Map<String, Object> ragResponse(int topK, int chunkChars) {
+        String sentence = "피고는 혼인 기간 중 부정행위를 하여 원고에게 정신적 고통을 주었으므로 위자료를 지급할 의무가 있다. ";
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < chunkChars)
+            sb.append(sentence);
+        String chunk = sb.substring(0, chunkChars);
+
+        List<Map<String, Object>> refs = new ArrayList<>();
+        List<Map<String, Object>> highlights = new ArrayList<>();
+        for (int i = 0; i < topK; i++) {
+            Map<String, Object> ref = new LinkedHashMap<>();
+            ref.put("case_no", "2023드단" + (10000 + i));
+            ref.put("court", "서울가정법원");
+            ref.put("judgment_date", "2023-0" + (1 + i % 9) + "-15");
+            ref.put("score", 0.91 - i * 0.03);
+            ref.put("section_name", "판단");
+            ref.put("text", chunk);
+            refs.add(ref);
+
+            for (int h = 0; h < 6; h++) {
+                Map<String, Object> hl = new LinkedHashMap<>();
+                hl.put("case_no", ref.get("case_no"));
+                hl.put("chunk_index", h);
+                hl.put("span", chunk.substring(0, Math.min(120, chunk.length())));
+                hl.put("tag", h % 2 == 0 ? "위자료" : "양육");
+                highlights.add(hl);
+            }
+        }
+
+        List<Map<String, Object>> factors = new ArrayList<>();
+        for (String f : List.of("부정행위", "혼인기간", "자녀 양육 상황", "경제적 능력")) {
+            factors.add(Map.of("name", f, "weight", 0.25, "evidence", sentence));
+        }
+
+        Map<String, Object> explanation = new LinkedHashMap<>();
+        explanation.put("reasoning", sentence.repeat(6));
+        explanation.put("factors", factors);
+        explanation.put("highlights", highlights);
+
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("answer", sentence.repeat(10));
+        m.put("avg_similarity", 87.4);
+        m.put("damages", 3000);
+        m.put("custody", "원고");
+        m.put("references", refs);
+        m.put("explanation", explanation);
+        return m;
+    }
+}
@@ -0,0 +1,124 @@
+package com.divorceai.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.divorceai.domain.dto.AnalyzeResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+class FieldsFilterTests {
+
+    private final ObjectMapper om = new ObjectMapper()
+            .setFilterProvider(new SimpleFilterProvider().setFailOnUnknownId(false));
+
+    private JsonNode project(String spec) throws Exception {
+        return om.readTree(om.writer(FieldsFilter.provider(spec, "ok", "error")).writeValueAsString(sample()));
+    }
+
+    @Test
+    void noFilterSerializesEverything() throws Exception {
+        JsonNode n = om.readTree(om.writeValueAsString(sample()));
+        assertThat(n.has("answer")).isTrue();
+        assertThat(n.at("/references/0/text").asText()).isEqualTo("본문");
+        assertThat(n.at("/explanation/highlights").size()).isEqualTo(1);
+    }
+
+    @Test
+    void includeOnlyKeepsRequestedFieldsPlusAlways() throws Exception {
+        JsonNode n = project("answer,damages,custody");
+        assertThat(fieldNames(n)).containsExactlyInAnyOrder("ok", "error", "answer", "damages", "custody");
+    }
+
+    @Test
+    void includeNestedPathKeepsParentsButOnlyRequestedChild() throws Exception {
+        JsonNode n = project("references.caseNo");
+        assertThat(fieldNames(n)).containsExactlyInAnyOrder("ok", "error", "references");
+        assertThat(fieldNames(n.at("/references/0"))).containsExactly("caseNo");
+    }
+
+    @Test
+    void excludeOnlyDropsJustTheExcludedPaths() throws Exception {
+        JsonNode n = project("-references.text,-explanation.highlights");
+        assertThat(fieldNames(n)).containsExactlyInAnyOrder(
+                "ok", "error", "answer", "explanation", "similarity", "damages", "custody", "references");
+        assertThat(n.at("/references/0").has("text")).isFalse();
+        assertThat(n.at("/references/0/caseNo").asText()).isEqualTo("2023드단1");
+        assertThat(n.get("explanation").has("highlights")).isFalse();
+        assertThat(n.get("explanation").has("factors")).isTrue();
+    }
+
+    @Test
+    void mixedIncludeAndExclude() throws Exception {
+        JsonNode n = project("answer,references,-references.text");
+        assertThat(fieldNames(n)).containsExactlyInAnyOrder("ok", "error", "answer", "references");
+        assertThat(n.at("/references/0").has("text")).isFalse();
+        assertThat(n.at("/references/0").has("court")).isTrue();
+    }
+
+    @Test
+    void alwaysFieldsSurviveExclusion() throws Exception {
+        JsonNode n = project("-ok,-error,-answer");
+        assertThat(n.has("ok")).isTrue();
+        assertThat(n.has("error")).isTrue();
+        assertThat(n.has("answer")).isFalse();
+    }
+
+    // ---------- FieldsFilterAdvice (?fields= → 직렬화 필터) ----------
+
+    private MappingJacksonValue advise(String fields, Object body) {
+        MockHttpServletRequest req = new MockHttpServletRequest("POST", "/api/analyze");
+        if (fields != null)
+            req.setParameter(FieldsFilterAdvice.PARAM, fields);
+        return (MappingJacksonValue) new FieldsFilterAdvice().beforeBodyWrite(body, null, MediaType.APPLICATION_JSON,
+                MappingJackson2HttpMessageConverter.class, new ServletServerHttpRequest(req),
+                new ServletServerHttpResponse(new MockHttpServletResponse()));
+    }
+
+    @Test
+    void adviceAppliesFieldsParamToFilteredDto() throws Exception {
+        MappingJacksonValue v = advise("answer", sample());
+        JsonNode n = om.readTree(om.writer(v.getFilters()).writeValueAsString(v.getValue()));
+        assertThat(fieldNames(n)).containsExactlyInAnyOrder("ok", "error", "answer");
+    }
+
+    @Test
+    void adviceLeavesResponseAloneWithoutParamOrJsonFilter() {
+        assertThat(advise(null, sample()).getFilters()).isNull();
+        assertThat(advise(" ", sample()).getFilters()).isNull();
+        assertThat(advise("answer", Map.of("ok", true)).getFilters()).isNull();
+    }
+
+    private static List<String> fieldNames(JsonNode n) {
+        List<String> names = new ArrayList<>();
+        n.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+
+    private static AnalyzeResponse sample() {
+        AnalyzeResponse r = new AnalyzeResponse();
+        r.setOk(true);
+        r.setAnswer("답변");
+        r.setSimilarity(87.5);
+        r.setDamages(3000);
+        r.setCustody("원고");
+        r.setReferences(List.of(new AnalyzeResponse.ReferenceCase("2023드단1", "서울가정법원", "2023-01-15", 91, "판단", "본문")));
+        r.setExplanation(new AnalyzeResponse.Explanation("이유",
+                List.of(new AnalyzeResponse.Factor("부정행위", 0.5, "근거")),
+                List.of(new AnalyzeResponse.Highlight("2023드단1", 0, "구간", "위자료"))));
+        return r;
+    }
+}
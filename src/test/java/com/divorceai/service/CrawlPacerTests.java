@@ -0,0 +1,90 @@
+package com.divorceai.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class CrawlPacerTests {
+
+    private static final long NOW = TimeUnit.SECONDS.toNanos(1_000);
+
+    /** initial=1, floor=0.2, ceiling=4, +0.5, ×0.5, 지연 초과 시 ×0.8, 목표 지연 1000ms */
+    private static CrawlPacer pacer() {
+        return new CrawlPacer(1.0, 0.2, 4.0, 0.5, 0.5, 0.8, 1000);
+    }
+
+    @Test
+    void additiveIncreaseOnFastSuccessUpToCeiling() {
+        CrawlPacer p = pacer();
+        p.onSuccess(100);
+        p.onSuccess(100);
+        assertThat(p.currentRate()).isCloseTo(2.0, within(1e-9));
+
+        for (int i = 0; i < 20; i++)
+            p.onSuccess(100);
+        assertThat(p.currentRate()).isEqualTo(4.0);
+    }
+
+    @Test
+    void multiplicativeDecreaseOnCongestionDownToFloor() {
+        CrawlPacer p = pacer();
+        for (int i = 0; i < 6; i++)
+            p.onSuccess(100); // 4.0 (ceiling)
+        p.onCongestion();
+        assertThat(p.currentRate()).isCloseTo(2.0, within(1e-9));
+        p.onCongestion();
+        assertThat(p.currentRate()).isCloseTo(1.0, within(1e-9));
+
+        for (int i = 0; i < 20; i++)
+            p.onCongestion();
+        assertThat(p.currentRate()).isEqualTo(0.2);
+        assertThat(p.snapshot()).containsEntry("congestions", 22L);
+    }
+
+    @Test
+    void slowSuccessDecreasesGently() {
+        CrawlPacer p = pacer();
+        p.onSuccess(1500);
+        assertThat(p.currentRate()).isCloseTo(0.8, within(1e-9));
+        assertThat(p.snapshot()).containsEntry("successes", 1L);
+    }
+
+    @Test
+    void reservationsAreSpacedByCurrentRate() {
+        CrawlPacer p = pacer(); // 1 req/s
+        assertThat(p.reserve(NOW)).isZero();
+        assertThat(p.reserve(NOW)).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+
+        p.onSuccess(100); // 1.5 req/s → 간격 666ms
+        assertThat(p.reserve(NOW)).isEqualTo(TimeUnit.SECONDS.toNanos(2));
+        assertThat(p.reserve(NOW)).isEqualTo(TimeUnit.SECONDS.toNanos(2) + TimeUnit.SECONDS.toNanos(1) * 2 / 3);
+    }
+
+    @Test
+    void retryAfterPushesNextSlotAndHalvesRate() {
+        CrawlPacer p = pacer();
+        p.onCongestion(5, NOW);
+        assertThat(p.currentRate()).isCloseTo(0.5, within(1e-9));
+        assertThat(p.reserve(NOW)).isEqualTo(TimeUnit.SECONDS.toNanos(5));
+    }
+
+    @Test
+    void retryAfterNeverPullsScheduleEarlier() {
+        CrawlPacer p = pacer();
+        p.onCongestion(10, NOW);
+        p.onCongestion(1, NOW);
+        assertThat(p.reserve(NOW)).isEqualTo(TimeUnit.SECONDS.toNanos(10));
+    }
+
+    @Test
+    void rejectsInvalidBounds() {
+        assertThatThrownBy(() -> new CrawlPacer(1.0, 2.0, 1.0, 0.1, 0.5, 0.8, 1000))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CrawlPacer(1.0, 0, 1.0, 0.1, 0.5, 0.8, 1000))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,151 @@
+package com.divorceai.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withException;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import java.net.SocketTimeoutException;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import com.divorceai.domain.dto.CrawlSummary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class CrawlServiceTests {
+
+    private static final String FLASK = "http://flask";
+
+    private final ObjectMapper json = new ObjectMapper();
+
+    private RestTemplate rest;
+    private MockRestServiceServer server;
+    private FakeCaseMapper mapper;
+    private CrawlPacer pacer;
+    private CrawlService service;
+
+    @BeforeEach
+    void setUp() {
+        rest = new RestTemplate();
+        server = MockRestServiceServer.bindTo(rest).build();
+        mapper = new FakeCaseMapper();
+        // 테스트가 대기하지 않도록 높은 rate
+        pacer = new CrawlPacer(1000, 100, 1000, 1, 0.5, 0.8, 60_000);
+        service = new CrawlService(mapper, pacer, new FlaskWireCodec(json, false), rest);
+        ReflectionTestUtils.setField(service, "flaskBaseUrl", FLASK);
+    }
+
+    private static Map<String, Object> item(String srno, String caseNo) {
+        return Map.of("srno", srno, "case_no", caseNo, "court", "서울가정법원", "judgment_date", "20240115",
+                "summary", "<b>요지</b>");
+    }
+
+    private void expectList(String keyword, Object... items) throws Exception {
+        server.expect(requestTo(FLASK + "/crawl_list?keyword=" + keyword + "&page=1&size=10"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(json.writeValueAsBytes(Map.of("data", List.of(items))),
+                        MediaType.APPLICATION_JSON));
+    }
+
+    private void expectDetail(String srno, String keyword, int times) {
+        server.expect(ExpectedCount.times(times),
+                requestTo(FLASK + "/crawl_detail?srno=" + srno + "&keyword=" + keyword))
+                .andRespond(withSuccess("<html>" + srno + "</html>", MediaType.TEXT_HTML));
+    }
+
+    /** 키워드 목록이 겹쳐도 상세는 srno 당 한 번, 키워드는 합쳐서 저장, type 은 첫 매칭 키워드 */
+    @Test
+    void overlappingKeywordsFetchEachSrnoOnceAndMergeKeywords() throws Exception {
+        expectList("divorce", item("1", "C1"), item("2", "C2"), Map.of("case_no", "NO-SRNO"));
+        expectList("custody", item("2", "C2"), item("3", "C3"));
+        expectList("alimony", item("1", "C1"), item("2", "C2"));
+        expectDetail("1", "divorce", 1);
+        expectDetail("2", "divorce", 1);
+        expectDetail("3", "custody", 1);
+
+        CrawlSummary s = service.crawlKeywords(List.of("divorce", " custody", "divorce", "alimony"), 1, 10);
+
+        server.verify();
+        assertThat(s.getKeywords()).containsExactly("divorce", "custody", "alimony");
+        assertThat(s.getListed()).isEqualTo(6);
+        assertThat(s.getSkipped()).isEqualTo(1);
+        assertThat(s.getUnique()).isEqualTo(3);
+        assertThat(s.getDetailFetches()).isEqualTo(3);
+        assertThat(s.getFetchesSaved()).isEqualTo(3);
+        assertThat(s.getSaved()).isEqualTo(3);
+
+        assertThat(mapper.keywords.get("C1")).containsExactly("divorce", "alimony");
+        assertThat(mapper.keywords.get("C2")).containsExactly("divorce", "custody", "alimony");
+        assertThat(mapper.keywords.get("C3")).containsExactly("custody");
+        assertThat(mapper.savedTypes).containsEntry("C2", "divorce").containsEntry("C3", "custody");
+        assertThat(mapper.keywords).doesNotContainKey("NO-SRNO");
+    }
+
+    /** 재크롤링: upsert 가 갱신(affected rows 2)이어도 saved 는 판례 수 */
+    @Test
+    void recrawlCountsSavedCasesNotAffectedRows() throws Exception {
+        expectList("divorce", item("1", "C1"), item("2", "C2"));
+        expectDetail("1", "divorce", 1);
+        expectDetail("2", "divorce", 1);
+        mapper.savedTypes.put("C1", "divorce");
+        mapper.savedTypes.put("C2", "divorce");
+
+        CrawlSummary s = service.crawlKeywords(List.of("divorce"), 1, 10);
+
+        server.verify();
+        assertThat(mapper.upsertCalls).isEqualTo(2);
+        assertThat(s.getSaved()).isEqualTo(2);
+    }
+
+    /** 목록 429/5xx/타임아웃: pacer 에 혼잡 보고 후 다음 키워드로 계속 (전체 실행 중단 X) */
+    @Test
+    void failedListIsReportedAsCongestionAndSkipped() throws Exception {
+        server.expect(requestTo(FLASK + "/crawl_list?keyword=divorce&page=1&size=10"))
+                .andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS));
+        server.expect(requestTo(FLASK + "/crawl_list?keyword=custody&page=1&size=10"))
+                .andRespond(withStatus(HttpStatus.BAD_GATEWAY));
+        server.expect(requestTo(FLASK + "/crawl_list?keyword=alimony&page=1&size=10"))
+                .andRespond(withException(new SocketTimeoutException("read timed out")));
+        expectList("property", item("4", "C4"));
+        expectDetail("4", "property", 1);
+
+        CrawlSummary s = service.crawlKeywords(List.of("divorce", "custody", "alimony", "property"), 1, 10);
+
+        server.verify();
+        assertThat(pacer.snapshot()).containsEntry("congestions", 3L);
+        assertThat(s.getListed()).isEqualTo(1);
+        assertThat(s.getSaved()).isEqualTo(1);
+        assertThat(mapper.keywords.get("C4")).containsExactly("property");
+    }
+
+    /** 날짜가 없거나 알 수 없는 형식이면 "" 로 넘겨 upsertCase 의 NULLIF 로 NULL 저장 */
+    @Test
+    void missingOrUnparseableDateIsPassedAsEmpty() throws Exception {
+        expectList("divorce",
+                item("1", "C1"),
+                Map.of("srno", "2", "case_no", "C2"),
+                Map.of("srno", "3", "case_no", "C3", "judgment_date", "2024.1.5"),
+                Map.of("srno", "4", "case_no", "C4", "judgment_date", "2024-02-03"));
+        for (String srno : List.of("1", "2", "3", "4"))
+            expectDetail(srno, "divorce", 1);
+
+        service.crawlKeywords(List.of("divorce"), 1, 10);
+
+        server.verify();
+        assertThat(mapper.judgedAts).containsEntry("C1", "2024-01-15").containsEntry("C2", "")
+                .containsEntry("C3", "").containsEntry("C4", "2024-02-03");
+    }
+}
@@ -0,0 +1,71 @@
+package com.divorceai.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.divorceai.domain.Precedent;
+import com.divorceai.mapper.CaseMapper;
+
+/** 테스트용 CaseMapper: 본문은 byte[] 하나, 목록은 미리 넣어둔 행을 그대로 반환하고 호출 인자를 기록 */
+class FakeCaseMapper implements CaseMapper {
+
+    /** caseNo → 저장된 type (upsert 는 처음 type 유지, MariaDB 처럼 갱신이면 2 반환) */
+    final Map<String, String> savedTypes = new LinkedHashMap<>();
+    final Map<String, Set<String>> keywords = new LinkedHashMap<>();
+    final Map<String, String> judgedAts = new LinkedHashMap<>();
+    int upsertCalls;
+
+    byte[] body = new byte[0];
+    int sliceCalls;
+
+    List<Precedent> rows = new ArrayList<>();
+    LocalDate lastAfterDate;
+    String lastAfterCaseNo;
+    int lastLimit;
+
+    @Override
+    public int upsertCase(String caseNo, String court, String judgedAt, String type, String summary, String url,
+            String fullText) {
+        upsertCalls++;
+        judgedAts.put(caseNo, judgedAt);
+        return savedTypes.putIfAbsent(caseNo, type) == null ? 1 : 2;
+    }
+
+    @Override
+    public int insertCaseKeywords(String caseNo, Collection<String> keywords) {
+        Set<String> set = this.keywords.computeIfAbsent(caseNo, k -> new LinkedHashSet<>());
+        int before = set.size();
+        set.addAll(keywords);
+        return set.size() - before;
+    }
+
+    @Override
+    public List<Precedent> findPrecedents(String court, String type, String keyword, LocalDate from, LocalDate to,
+            LocalDate afterDate, String afterCaseNo, int limit) {
+        lastAfterDate = afterDate;
+        lastAfterCaseNo = afterCaseNo;
+        lastLimit = limit;
+        return new ArrayList<>(rows.subList(0, Math.min(limit, rows.size())));
+    }
+
+    @Override
+    public Long findBodyLength(String caseNo) {
+        return (long) body.length;
+    }
+
+    /** SUBSTRING(x, from, length) 와 같은 의미 (from 은 1부터) */
+    @Override
+    public byte[] findBodySlice(String caseNo, long from, int length) {
+        sliceCalls++;
+        int start = (int) Math.min(from - 1, body.length);
+        int end = (int) Math.min(start + (long) length, body.length);
+        return Arrays.copyOfRange(body, start, end);
+    }
+}
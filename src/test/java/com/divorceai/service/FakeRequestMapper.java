@@ -0,0 +1,50 @@
+package com.divorceai.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.divorceai.domain.Request;
+import com.divorceai.mapper.RequestMapper;
+
+/** 테스트용 RequestMapper: 메모리 목록 + 메서드별 호출 횟수 */
+class FakeRequestMapper implements RequestMapper {
+
+    final List<Request> rows = new ArrayList<>();
+    int findAllCalls;
+    int findByIdCalls;
+    int watermarkCalls;
+    Runnable onWatermark = () -> {
+    };
+
+    @Override
+    public void insertRequest(Request request) {
+        request.setId((long) rows.size() + 1);
+        rows.add(request);
+    }
+
+    @Override
+    public void insertRequestBatch(Request request) {
+        insertRequest(request);
+    }
+
+    @Override
+    public List<Request> findAll() {
+        findAllCalls++;
+        return new ArrayList<>(rows);
+    }
+
+    @Override
+    public Request findById(Long id) {
+        findByIdCalls++;
+        return rows.stream().filter(r -> r.getId().equals(id)).findFirst().orElse(null);
+    }
+
+    /** XML 과 같은 "COUNT-MAX(id)" 형태, onWatermark 는 조회 도중 끼어드는 작업 흉내 */
+    @Override
+    public String findListWatermark() {
+        watermarkCalls++;
+        String w = rows.size() + "-" + rows.size();
+        onWatermark.run();
+        return w;
+    }
+}
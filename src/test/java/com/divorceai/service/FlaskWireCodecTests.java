@@ -0,0 +1,126 @@
+package com.divorceai.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+class FlaskWireCodecTests {
+
+    private static final String URL = "http://flask/rag";
+    private static final Map<String, Object> PAYLOAD = Map.of("question", "위자료");
+    private static final Map<String, Object> ANSWER = Map.of("answer", "3000만원");
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final ObjectMapper cbor = new CBORMapper();
+
+    private RestTemplate rest;
+    private MockRestServiceServer server;
+
+    @BeforeEach
+    void setUp() {
+        rest = new RestTemplate();
+        server = MockRestServiceServer.bindTo(rest).build();
+    }
+
+    @Test
+    void jsonOnlyPeerStaysOnJson() throws Exception {
+        FlaskWireCodec codec = new FlaskWireCodec(json, true);
+        for (int i = 0; i < 2; i++) {
+            server.expect(requestTo(URL)).andExpect(method(HttpMethod.POST))
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(header(HttpHeaders.ACCEPT, containsString("application/cbor")))
+                    .andRespond(withSuccess(json.writeValueAsBytes(ANSWER), MediaType.APPLICATION_JSON));
+        }
+
+        for (int i = 0; i < 2; i++)
+            assertThat(codec.readTree(codec.post(rest, URL, PAYLOAD)).path("answer").asText()).isEqualTo("3000만원");
+        server.verify();
+    }
+
+    @Test
+    void cborResponseSwitchesRequestBodiesToCbor() throws Exception {
+        FlaskWireCodec codec = new FlaskWireCodec(json, true);
+        server.expect(requestTo(URL))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andRespond(withSuccess(cbor.writeValueAsBytes(ANSWER), FlaskWireCodec.CBOR));
+        server.expect(requestTo(URL))
+                .andExpect(content().contentType(FlaskWireCodec.CBOR))
+                .andExpect(content().bytes(cbor.writeValueAsBytes(PAYLOAD)))
+                .andRespond(withSuccess(cbor.writeValueAsBytes(ANSWER), FlaskWireCodec.CBOR));
+
+        JsonNode first = codec.readTree(codec.post(rest, URL, PAYLOAD));
+        JsonNode second = codec.readTree(codec.post(rest, URL, PAYLOAD));
+        assertThat(first.path("answer").asText()).isEqualTo("3000만원");
+        assertThat(second.path("answer").asText()).isEqualTo("3000만원");
+        server.verify();
+    }
+
+    /** CBOR 로 응답은 하지만 CBOR 본문은 못 읽는 peer: 415 한 번 뒤로는 JSON 본문 고정 */
+    @Test
+    void unsupportedMediaTypePinsJsonRequestsForGood() throws Exception {
+        FlaskWireCodec codec = new FlaskWireCodec(json, true);
+        byte[] cborAnswer = cbor.writeValueAsBytes(ANSWER);
+
+        // 1) JSON 요청 → CBOR 응답 (peer 가 CBOR 지원한다고 학습)
+        server.expect(requestTo(URL))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andRespond(withSuccess(cborAnswer, FlaskWireCodec.CBOR));
+        // 2) CBOR 요청 → 415, JSON 재시도 → 여전히 CBOR 응답
+        server.expect(requestTo(URL))
+                .andExpect(content().contentType(FlaskWireCodec.CBOR))
+                .andRespond(withStatus(HttpStatus.UNSUPPORTED_MEDIA_TYPE));
+        server.expect(requestTo(URL))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andRespond(withSuccess(cborAnswer, FlaskWireCodec.CBOR));
+        // 3) 이후 요청은 415 없이 바로 JSON
+        server.expect(requestTo(URL))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andRespond(withSuccess(cborAnswer, FlaskWireCodec.CBOR));
+
+        for (int i = 0; i < 3; i++)
+            assertThat(codec.readTree(codec.post(rest, URL, PAYLOAD)).path("answer").asText()).isEqualTo("3000만원");
+        server.verify();
+    }
+
+    @Test
+    void disabledNeverAdvertisesCbor() throws Exception {
+        FlaskWireCodec codec = new FlaskWireCodec(json, false);
+        server.expect(requestTo("http://flask/crawl_detail?srno=1"))
+                .andExpect(header(HttpHeaders.ACCEPT, not(containsString("cbor"))))
+                .andRespond(withSuccess("<html>판결</html>", MediaType.parseMediaType("text/html;charset=UTF-8")));
+
+        assertThat(codec.readText(codec.get(rest, "http://flask/crawl_detail?srno=1"))).isEqualTo("<html>판결</html>");
+        server.verify();
+    }
+
+    @Test
+    void readTextDecodesCborTextString() throws Exception {
+        FlaskWireCodec codec = new FlaskWireCodec(json, true);
+        server.expect(requestTo("http://flask/crawl_detail?srno=1"))
+                .andRespond(withSuccess(cbor.writeValueAsBytes("<html>판결</html>"), FlaskWireCodec.CBOR));
+
+        assertThat(codec.readText(codec.get(rest, "http://flask/crawl_detail?srno=1"))).isEqualTo("<html>판결</html>");
+        server.verify();
+    }
+}
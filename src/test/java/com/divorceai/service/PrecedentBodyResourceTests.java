@@ -0,0 +1,95 @@
+package com.divorceai.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.StreamUtils;
+
+class PrecedentBodyResourceTests {
+
+    private static final byte[] BODY = "0123456789".getBytes(StandardCharsets.US_ASCII);
+
+    private FakeCaseMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new FakeCaseMapper();
+        mapper.body = BODY;
+    }
+
+    private PrecedentBodyResource resource(int chunk) {
+        return new PrecedentBodyResource(mapper, "2023드단1", BODY.length, chunk);
+    }
+
+    @Test
+    void readsWholeBodyAcrossChunkBoundaries() throws Exception {
+        try (InputStream in = resource(4).getInputStream()) {
+            assertThat(in.readAllBytes()).isEqualTo(BODY);
+        }
+        assertThat(mapper.sliceCalls).isEqualTo(3); // 4 + 4 + 2
+    }
+
+    @Test
+    void singleByteReadsCrossBoundaries() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = resource(3).getInputStream()) {
+            int b;
+            while ((b = in.read()) != -1)
+                out.write(b);
+        }
+        assertThat(out.toByteArray()).isEqualTo(BODY);
+    }
+
+    @Test
+    void skipInsideBufferThenAcrossChunksWithoutFetchingSkippedWindows() throws Exception {
+        try (InputStream in = resource(4).getInputStream()) {
+            byte[] head = new byte[2];
+            assertThat(in.read(head)).isEqualTo(2); // "01", 버퍼에 "23" 남음
+            assertThat(in.skip(5)).isEqualTo(5); // 버퍼 2 + DB 위치 이동 3 → 7
+            assertThat(in.readAllBytes()).isEqualTo("789".getBytes(StandardCharsets.US_ASCII));
+        }
+        assertThat(mapper.sliceCalls).isEqualTo(2); // [0,4) 와 [7,10) 만 조회
+    }
+
+    @Test
+    void skipPastEndStopsAtLength() throws Exception {
+        try (InputStream in = resource(4).getInputStream()) {
+            assertThat(in.skip(100)).isEqualTo(10);
+            assertThat(in.read()).isEqualTo(-1);
+        }
+        assertThat(mapper.sliceCalls).isZero();
+    }
+
+    /** Spring 의 Range 처리(ResourceRegion)와 같은 경로: skip(start) 후 구간 복사 */
+    @Test
+    void copyRangeMatchesByteRange() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = resource(4).getInputStream()) {
+            StreamUtils.copyRange(in, out, 3, 8);
+        }
+        assertThat(out.toByteArray()).isEqualTo(Arrays.copyOfRange(BODY, 3, 9));
+    }
+
+    @Test
+    void contentLengthIsKnownWithoutReading() {
+        assertThat(resource(4).contentLength()).isEqualTo(10);
+        assertThat(mapper.sliceCalls).isZero();
+    }
+
+    @Test
+    void bodyShrinkingMidStreamFails() throws Exception {
+        try (InputStream in = resource(4).getInputStream()) {
+            in.readNBytes(4);
+            mapper.body = Arrays.copyOf(BODY, 4);
+            assertThatThrownBy(in::read).isInstanceOf(IOException.class);
+        }
+    }
+}
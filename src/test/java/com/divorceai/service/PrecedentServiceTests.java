@@ -0,0 +1,92 @@
+package com.divorceai.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.divorceai.domain.Precedent;
+import com.divorceai.domain.dto.PrecedentPage;
+
+class PrecedentServiceTests {
+
+    private FakeCaseMapper mapper;
+    private PrecedentService service;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new FakeCaseMapper();
+        service = new PrecedentService(mapper);
+    }
+
+    private static Precedent row(String caseNo, LocalDate date) {
+        Precedent p = new Precedent();
+        p.setCaseNo(caseNo);
+        p.setJudgmentDate(date);
+        return p;
+    }
+
+    @Test
+    void firstPageHasNoCursorAndFetchesOneExtraRow() {
+        mapper.rows.add(row("c3", LocalDate.of(2024, 3, 1)));
+        mapper.rows.add(row("c2", LocalDate.of(2024, 2, 1)));
+        mapper.rows.add(row("c1", LocalDate.of(2024, 1, 1)));
+
+        PrecedentPage page = service.list(null, null, null, null, null, null, 2);
+
+        assertThat(mapper.lastLimit).isEqualTo(3);
+        assertThat(mapper.lastAfterDate).isNull();
+        assertThat(mapper.lastAfterCaseNo).isNull();
+        assertThat(page.getItems()).extracting(Precedent::getCaseNo).containsExactly("c3", "c2");
+        assertThat(page.getNextCursor()).isNotNull();
+    }
+
+    @Test
+    void cursorRoundTripsDateAndCaseNo() {
+        mapper.rows.add(row("2024드단7|x", LocalDate.of(2024, 3, 1)));
+        mapper.rows.add(row("next", LocalDate.of(2024, 2, 1)));
+
+        String cursor = service.list(null, null, null, null, null, null, 1).getNextCursor();
+        service.list(null, null, null, null, null, cursor, 1);
+
+        assertThat(mapper.lastAfterDate).isEqualTo(LocalDate.of(2024, 3, 1));
+        assertThat(mapper.lastAfterCaseNo).isEqualTo("2024드단7|x");
+    }
+
+    /** 날짜가 NULL 인 행이 페이지 끝이면 커서는 날짜 없이 caseNo 만 이어받는다 (NULL 구간 키셋) */
+    @Test
+    void cursorFromNullJudgmentDateCarriesNullDate() {
+        mapper.rows.add(row("c9", null));
+        mapper.rows.add(row("c8", null));
+
+        String cursor = service.list(null, null, null, null, null, null, 1).getNextCursor();
+        assertThat(cursor).isNotNull();
+
+        service.list(null, null, null, null, null, cursor, 1);
+        assertThat(mapper.lastAfterDate).isNull();
+        assertThat(mapper.lastAfterCaseNo).isEqualTo("c9");
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        mapper.rows.add(row("c1", null));
+        assertThat(service.list(null, null, null, null, null, null, 5).getNextCursor()).isNull();
+    }
+
+    @Test
+    void pageSizeIsClamped() {
+        service.list(null, null, null, null, null, null, 10_000);
+        assertThat(mapper.lastLimit).isEqualTo(101);
+        service.list(null, null, null, null, null, null, 0);
+        assertThat(mapper.lastLimit).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsGarbageCursor() {
+        assertThatThrownBy(() -> service.list(null, null, null, null, null, "!!!", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,203 @@
+package com.divorceai.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.BatchUpdateException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import com.divorceai.domain.Request;
+import com.divorceai.domain.dto.BulkImportResponse;
+import com.divorceai.service.RequestImportService.BoundedLineReader;
+
+class RequestImportServiceTests {
+
+    /** 라인을 끝까지 읽어 "내용" 또는 overflow 면 "!" 로 */
+    private static List<String> lines(String text, int max) throws IOException {
+        BoundedLineReader r = new BoundedLineReader(new StringReader(text), max);
+        List<String> out = new ArrayList<>();
+        String line;
+        while ((line = r.next()) != null)
+            out.add(r.overflowed() ? "!" : line);
+        return out;
+    }
+
+    // ---------- BoundedLineReader ----------
+
+    @Test
+    void lineOfExactlyMaxFitsAndOneMoreOverflows() throws IOException {
+        assertThat(lines("12345\n123456\n", 5)).containsExactly("12345", "!");
+    }
+
+    @Test
+    void crlfIsStrippedAndNotCountedTowardMax() throws IOException {
+        assertThat(lines("12345\r\nab\r\n123456\r\n", 5)).containsExactly("12345", "ab", "!");
+    }
+
+    @Test
+    void lastLineWithoutNewlineIsReturnedAndNoPhantomLineAfterTrailingNewline() throws IOException {
+        assertThat(lines("a\nb", 5)).containsExactly("a", "b");
+        assertThat(lines("a\n", 5)).containsExactly("a");
+        assertThat(lines("", 5)).isEmpty();
+        assertThat(lines("123456", 5)).containsExactly("!");
+    }
+
+    @Test
+    void blankLinesAreKept() throws IOException {
+        assertThat(lines("\n\r\na\n\n", 5)).containsExactly("", "", "a", "");
+    }
+
+    /** overflow 라인의 나머지는 버퍼(8192) 여러 번에 걸쳐도 버리고, 다음 라인은 정상 */
+    @Test
+    void overflowSpanningReadBuffersResyncsOnNextLine() throws IOException {
+        String huge = "x".repeat(20_000);
+        String exact = "y".repeat(10_000);
+        assertThat(lines(huge + "\nok\n" + exact + "\n", 10_000)).containsExactly("!", "ok", exact);
+    }
+
+    // ---------- importNdjson ----------
+
+    private final List<Request> committed = new ArrayList<>();
+    private int writes;
+    private Consumer<List<Request>> db;
+    private FakeRequestMapper requestMapper;
+    private RequestVersionIndex versionIndex;
+
+    @BeforeEach
+    void setUp() {
+        committed.clear();
+        writes = 0;
+        requestMapper = new FakeRequestMapper();
+        versionIndex = new RequestVersionIndex(requestMapper, 100, 60_000);
+        // caseType "BAD" 인 행이 섞이면 트랜잭션 전체 실패 (배치 INSERT + 롤백 흉내)
+        db = rows -> {
+            if (rows.stream().anyMatch(r -> "BAD".equals(r.getCaseType())))
+                throw new DataIntegrityViolationException("Data too long for column 'case_type'");
+            committed.addAll(rows);
+        };
+    }
+
+    private BulkImportResponse importLines(int chunkSize, String... lines) throws IOException {
+        RequestImportService service = new RequestImportService(Jackson2ObjectMapperBuilder.json().build(), rows -> {
+            writes++;
+            db.accept(rows);
+        }, versionIndex);
+        ReflectionTestUtils.setField(service, "chunkSize", chunkSize);
+        ReflectionTestUtils.setField(service, "maxErrors", 100);
+        ReflectionTestUtils.setField(service, "maxLineChars", 200);
+        String body = String.join("\n", lines) + "\n";
+        return service.importNdjson(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String row(String caseType) {
+        return "{\"caseType\":\"" + caseType + "\",\"gender\":\"F\"}";
+    }
+
+    @Test
+    void failedChunkIsSplitDownToTheBadRow() throws IOException {
+        BulkImportResponse res = importLines(8,
+                row("A1"), row("A2"), row("A3"), row("BAD"), row("A5"), row("A6"), row("A7"), row("A8"));
+
+        assertThat(committed).extracting(Request::getCaseType)
+                .containsExactly("A1", "A2", "A3", "A5", "A6", "A7", "A8");
+        assertThat(res.getInserted()).isEqualTo(7);
+        assertThat(res.getFailed()).isEqualTo(1);
+        assertThat(res.getErrors()).singleElement().satisfies(e -> {
+            assertThat(e.getLine()).isEqualTo(4);
+            assertThat(e.getMessage()).contains("Data too long");
+        });
+        assertThat(res.getOk()).isFalse();
+        assertThat(res.isAborted()).isFalse();
+        // 8 → 4+4 → (2+2) → (1+1): 실패 1 + 성공 절반 1 + 2 + 2 = 7
+        assertThat(writes).isEqualTo(7);
+    }
+
+    /** 배치 INSERT 가 UncategorizedSQLException(BatchUpdateException) 으로 번역돼도 행 오류로 분할 */
+    @Test
+    void batchUpdateExceptionCauseIsTreatedAsRowError() throws IOException {
+        db = rows -> {
+            if (rows.stream().anyMatch(r -> "BAD".equals(r.getCaseType())))
+                throw new UncategorizedSQLException("batch", "INSERT", new BatchUpdateException());
+            committed.addAll(rows);
+        };
+        BulkImportResponse res = importLines(4, row("A1"), row("BAD"), row("A3"), row("A4"));
+
+        assertThat(res.getInserted()).isEqualTo(3);
+        assertThat(res.getErrors()).extracting(BulkImportResponse.LineError::getLine).containsExactly(2L);
+    }
+
+    /** 라인 번호는 빈 줄/overflow/파싱 실패 라인을 모두 세고, 적재 실패는 원래 라인 번호로 보고 */
+    @Test
+    void lineNumbersSurviveBlankOverflowAndParseErrors() throws IOException {
+        BulkImportResponse res = importLines(10,
+                row("A1"), "", "{\"caseType\":\"" + "z".repeat(300) + "\"}", "{oops", row("BAD"), row("A6"));
+
+        assertThat(res.getTotal()).isEqualTo(5); // 빈 줄 제외
+        assertThat(res.getInserted()).isEqualTo(2);
+        assertThat(res.getErrors()).extracting(BulkImportResponse.LineError::getLine).containsExactly(3L, 4L, 5L);
+        assertThat(res.getErrors().get(0).getMessage()).contains("max-line-chars");
+    }
+
+    /** DB 장애는 행마다 똑같이 실패하므로 분할 없이 중단, 이후 라인은 읽지도 에러로 세지도 않음 */
+    @Test
+    void connectionFailureStopsImportWithoutSplitting() throws IOException {
+        db = rows -> {
+            if (committed.size() >= 2)
+                throw new CannotCreateTransactionException("Could not open JDBC Connection",
+                        new CannotGetJdbcConnectionException("pool exhausted"));
+            committed.addAll(rows);
+        };
+        BulkImportResponse res = importLines(2,
+                row("A1"), row("A2"), row("A3"), row("A4"), row("A5"), row("A6"));
+
+        assertThat(writes).isEqualTo(2);
+        assertThat(res.isAborted()).isTrue();
+        assertThat(res.getStoppedAtLine()).isEqualTo(3);
+        assertThat(res.getAbortReason()).contains("pool exhausted");
+        assertThat(res.getInserted()).isEqualTo(2);
+        assertThat(res.getFailed()).isZero();
+        assertThat(res.getErrors()).isEmpty();
+        assertThat(res.getOk()).isFalse();
+    }
+
+    @Test
+    void transientErrorDuringSplitStopsAtFirstUncommittedLine() throws IOException {
+        db = rows -> {
+            if (rows.size() == 4)
+                throw new DataIntegrityViolationException("dup");
+            if (rows.get(0).getCaseType().equals("A3"))
+                throw new QueryTimeoutException("timeout", new SQLTransientConnectionException("timeout"));
+            committed.addAll(rows);
+        };
+        BulkImportResponse res = importLines(4, row("A1"), row("A2"), row("A3"), row("A4"));
+
+        assertThat(committed).extracting(Request::getCaseType).containsExactly("A1", "A2");
+        assertThat(res.isAborted()).isTrue();
+        assertThat(res.getStoppedAtLine()).isEqualTo(3);
+        assertThat(res.getErrors()).isEmpty();
+    }
+
+    @Test
+    void eachCommittedChunkInvalidatesListEtag() throws IOException {
+        versionIndex.listEtag();
+        importLines(2, row("A1"), row("A2"), row("A3"));
+        versionIndex.listEtag();
+        assertThat(requestMapper.watermarkCalls).isEqualTo(2);
+    }
+}
@@ -0,0 +1,161 @@
+package com.divorceai.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.divorceai.controller.RequestController;
+import com.divorceai.domain.Request;
+
+class RequestVersionIndexTests {
+
+    private static final long TTL = 5_000;
+    private static final long NOW = 1_000_000;
+
+    private FakeRequestMapper mapper;
+    private RequestVersionIndex index;
+    private RequestService service;
+    private RequestController controller;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new FakeRequestMapper();
+        index = new RequestVersionIndex(mapper, 100, TTL);
+        service = new RequestService(mapper, index);
+        controller = new RequestController(service, null, index);
+    }
+
+    private Request saved(LocalDateTime createdAt) {
+        Request r = new Request();
+        r.setCaseType("이혼");
+        r.setCreatedAt(createdAt);
+        mapper.insertRequest(r);
+        return r;
+    }
+
+    /** 응답 상태 + 본문 (checkNotModified 로 304 면 컨트롤러는 null 반환) */
+    private record Result(int status, ResponseEntity<?> entity) {
+    }
+
+    private Result get(Long id, String ifNoneMatch) {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/api/requests" + (id == null ? "" : "/" + id));
+        if (ifNoneMatch != null)
+            req.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        ServletWebRequest web = new ServletWebRequest(req, res);
+        ResponseEntity<?> entity = id == null ? controller.getAll(web) : controller.getById(id, web);
+        return new Result(entity == null ? res.getStatus() : entity.getStatusCode().value(), entity);
+    }
+
+    // ---------- 단건 ----------
+
+    @Test
+    void knownIdAnswers304WithoutMapperCall() {
+        saved(LocalDateTime.of(2024, 1, 1, 9, 30));
+
+        Result first = get(1L, null);
+        assertThat(first.status()).isEqualTo(200);
+        String etag = first.entity().getHeaders().getETag();
+        assertThat(mapper.findByIdCalls).isEqualTo(1);
+
+        Result again = get(1L, etag);
+        assertThat(again.status()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(mapper.findByIdCalls).isEqualTo(1);
+    }
+
+    @Test
+    void staleEtagForKnownIdFallsThroughToFullResponse() {
+        saved(LocalDateTime.of(2024, 1, 1, 9, 30));
+        get(1L, null);
+
+        Result r = get(1L, "\"req-1-0\"");
+        assertThat(r.status()).isEqualTo(200);
+        assertThat(mapper.findByIdCalls).isEqualTo(2);
+    }
+
+    @Test
+    void missingIdIs404AndIsNotRemembered() {
+        Result r = get(42L, "\"req-42-0\"");
+        assertThat(r.status()).isEqualTo(404);
+        assertThat(index.knownEtag(42L)).isNull();
+        assertThat(mapper.findByIdCalls).isEqualTo(1);
+    }
+
+    /** 같은 행이면 서버 시간대와 무관하게 같은 ETag (created_at 을 UTC 로 고정 해석) */
+    @Test
+    void rowEtagDoesNotDependOnHostTimeZone() {
+        Request r = saved(LocalDateTime.of(2024, 1, 1, 0, 0));
+        TimeZone original = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Seoul"));
+            String seoul = index.remember(r);
+            TimeZone.setDefault(TimeZone.getTimeZone("America/Los_Angeles"));
+            String la = index.remember(r);
+            assertThat(seoul).isEqualTo(la).isEqualTo("\"req-1-1704067200000\"");
+        } finally {
+            TimeZone.setDefault(original);
+        }
+    }
+
+    // ---------- 목록 ----------
+
+    @Test
+    void listWatermarkIsCachedUntilTtlExpires() {
+        String first = index.listEtag(NOW);
+        assertThat(index.listEtag(NOW + TTL - 1)).isEqualTo(first);
+        assertThat(mapper.watermarkCalls).isEqualTo(1);
+
+        saved(null); // 다른 인스턴스의 INSERT (무효화 없음) → TTL 뒤에 반영
+        assertThat(index.listEtag(NOW + TTL)).isNotEqualTo(first);
+        assertThat(mapper.watermarkCalls).isEqualTo(2);
+    }
+
+    @Test
+    void saveInvalidatesListEtag() {
+        String before = index.listEtag(NOW);
+        service.save(new Request());
+        assertThat(index.listEtag(NOW)).isNotEqualTo(before);
+        assertThat(mapper.watermarkCalls).isEqualTo(2);
+    }
+
+    /** 워터마크 조회 도중 INSERT 로 무효화되면 그 (이미 낡았을 수 있는) 값은 캐시하지 않음 */
+    @Test
+    void watermarkLoadedAcrossInvalidationIsNotCached() {
+        mapper.onWatermark = () -> {
+            mapper.onWatermark = () -> {
+            };
+            service.save(new Request());
+        };
+        String raced = index.listEtag(NOW);
+        String next = index.listEtag(NOW);
+
+        assertThat(mapper.watermarkCalls).isEqualTo(2);
+        assertThat(next).isNotEqualTo(raced);
+        assertThat(index.listEtag(NOW)).isEqualTo(next);
+        assertThat(mapper.watermarkCalls).isEqualTo(2);
+    }
+
+    @Test
+    void listAnswers304WithoutSelectingRows() {
+        saved(null);
+        Result first = get(null, null);
+        assertThat(first.status()).isEqualTo(200);
+        String etag = first.entity().getHeaders().getETag();
+        assertThat(etag).startsWith("W/");
+        assertThat(mapper.findAllCalls).isEqualTo(1);
+
+        Result again = get(null, etag);
+        assertThat(again.status()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(mapper.findAllCalls).isEqualTo(1);
+    }
+}